@@ -0,0 +1,39 @@
+package com.example.adminpage.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider applicationConnectionProvider() {
+        return ConnectionProvider.builder("application")
+                .maxConnections(10)
+                .pendingAcquireTimeout(Duration.ofSeconds(5))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+    }
+
+    // 서비스 서버(eta) API 호출용 클라이언트, 요청마다 만들지 않고 커넥션 풀을 재사용
+    @Bean
+    public WebClient applicationWebClient(ConnectionProvider applicationConnectionProvider, @Value("${application.url}") String baseUrl) {
+        HttpClient httpClient = HttpClient.create(applicationConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 3000)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofSeconds(30));
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -8,7 +8,6 @@ import com.example.adminpage.repository.PortfolioRepository;
 import com.example.adminpage.repository.PortfolioTickerRepository;
 import com.example.adminpage.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
@@ -23,8 +22,8 @@ import java.util.List;
 @Controller
 @RequestMapping("/portfolio")
 public class PortfolioController {
-    @Value("${application.url}")
-    private String baseUrl;
+    @Autowired
+    private WebClient applicationWebClient;
 
     @Autowired
     private PortfolioRepository portfolioRepository;
@@ -73,7 +72,7 @@ public class PortfolioController {
         User user = portfolioRepository.findById(pfId).get().getUser();
 
         // Spring Boot 서버의 API를 호출
-        HttpStatusCode statusCode = WebClient.builder().baseUrl(baseUrl).build()
+        HttpStatusCode statusCode = applicationWebClient
             .put()
             .uri("/api/rebalancing/"+pfId+"/execute")
             .retrieve()
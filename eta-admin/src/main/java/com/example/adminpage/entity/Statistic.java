@@ -21,4 +21,13 @@ public class Statistic {
 
     @Column(name = "total_portfolio", nullable = false)
     private int portfolioNum;
+
+    @Column(name = "new_user", nullable = false)
+    private int newUserNum;
+
+    @Column(name = "new_portfolio", nullable = false)
+    private int newPortfolioNum;
+
+    @Column(name = "active_user", nullable = false)
+    private int activeUserNum;
 }
@@ -0,0 +1,98 @@
+package com.example.eta.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 {@code Utility.decompose} 구현과 {@link HangulDecomposer}의 처리량을 비교합니다.
+ *
+ * <p> 실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HangulDecomposerBenchmark {
+
+    private static final String[] SAMPLE_NAMES = {
+            "삼성전자", "SK하이닉스", "LG에너지솔루션", "삼성바이오로직스", "현대차", "기아", "셀트리온", "POSCO홀딩스",
+            "KB금융", "NAVER", "신한지주", "삼성물산", "현대모비스", "카카오", "LG화학", "에코프로비엠",
+            "KODEX 200", "TIGER 미국S&P500", "한국전력", "HMM", "카카오뱅크", "크래프톤", "하나금융지주", "삼성SDI"
+    };
+
+    private String query;
+    private List<String> names;
+
+    @Setup
+    public void setUp() {
+        query = "삼성전자";
+        names = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            names.add(SAMPLE_NAMES[i % SAMPLE_NAMES.length]);
+        }
+    }
+
+    @Benchmark
+    public String decomposeLegacy() {
+        return legacyDecompose(query);
+    }
+
+    @Benchmark
+    public String decompose() {
+        return HangulDecomposer.decompose(query);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void decomposeAllLegacy(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(legacyDecompose(name));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public String[] decomposeAll() {
+        return HangulDecomposer.decomposeAll(names);
+    }
+
+    /**
+     * {@link HangulDecomposer} 도입 전의 {@code Utility.decompose}
+     */
+    private static String legacyDecompose(String string) {
+        String[] arr_cho =
+                {"ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+        String[] arr_jung =
+                {"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅘ", "ㅙ", "ㅚ", "ㅛ", "ㅜ", "ㅝ", "ㅞ", "ㅟ", "ㅠ", "ㅡ", "ㅢ", "ㅣ"};
+        String[] arr_jong =
+                {"", "ㄱ", "ㄲ", "ㄳ", "ㄴ", "ㄵ", "ㄶ", "ㄷ", "ㄹ", "ㄺ", "ㄻ", "ㄼ", "ㄽ", "ㄾ", "ㄿ", "ㅀ", "ㅁ", "ㅂ", "ㅄ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+        StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < string.length(); i++) {
+            char uniVal = string.charAt(i);
+
+            try {
+                if (uniVal >= 0xAC00 && uniVal <= 0xD7A3) {
+                    uniVal = (char) (uniVal - 0xAC00);
+                    char cho = (char) (uniVal / 28 / 21);
+                    char jung = (char) (uniVal / 28 % 21);
+                    char jong = (char) (uniVal % 28);
+                    stringBuilder.append(arr_cho[cho]);
+                    stringBuilder.append(arr_jung[jung]);
+                    stringBuilder.append(arr_jong[jong]);
+                } else {
+                    stringBuilder.append(uniVal);
+                }
+            } catch (RuntimeException e) {
+                stringBuilder.append(uniVal);
+            }
+        }
+        return stringBuilder.toString();
+    }
+}
@@ -3,51 +3,97 @@ package com.example.eta.api;
 import com.example.eta.dto.NewsDto;
 import com.example.eta.dto.PortfolioDto;
 import com.example.eta.dto.TickerDto;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * FastAPI 서버 호출 클라이언트입니다.
+ *
+ * <p> FastAPI 서버가 느려지거나 응답하지 않을 때 요청 스레드가 모두 묶이지 않도록, 기능(makePortfolio, currentPrice, getNews)마다
+ * 서킷 브레이커와 벌크헤드를 따로 둡니다. 서킷 브레이커가 열려 있거나 동시 호출 수가 가득 찬 경우
+ * 반환된 {@link Mono}는 FastAPI 서버를 호출하지 않고 {@code CallNotPermittedException} 또는 {@code BulkheadFullException}으로 바로 실패합니다.
+ */
 @Component
 public class ApiClientFastApi {
 
-    @Value("${fastApi.url}")
-    private String baseUrl;
+    private final WebClient webClient;
+
+    private final CircuitBreaker makePortfolioCircuitBreaker;
+    private final CircuitBreaker currentPriceCircuitBreaker;
+    private final CircuitBreaker newsCircuitBreaker;
+    private final Bulkhead makePortfolioBulkhead;
+    private final Bulkhead currentPriceBulkhead;
+    private final Bulkhead newsBulkhead;
+
+    // 포트폴리오 최적화(/makePortfolio/)는 수십 초가 걸릴 수 있어 응답 제한 시간을 길게 두고, 동시 호출 수는 적게 둠
+    public ApiClientFastApi(WebClientFactory webClientFactory, CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+                            @Value("${fastApi.url}") String baseUrl,
+                            @Value("${resilience.bulkhead.make-portfolio.max-concurrent-calls:4}") int makePortfolioMaxConcurrentCalls) {
+        this.webClient = webClientFactory.create("fastapi", baseUrl, 60000);
+
+        this.makePortfolioCircuitBreaker = circuitBreakerRegistry.circuitBreaker("fastapi-makePortfolio",
+                CircuitBreakerConfig.from(circuitBreakerRegistry.getDefaultConfig())
+                        .slowCallDurationThreshold(Duration.ofSeconds(50))
+                        .build());
+        this.currentPriceCircuitBreaker = circuitBreakerRegistry.circuitBreaker("fastapi-currentPrice");
+        this.newsCircuitBreaker = circuitBreakerRegistry.circuitBreaker("fastapi-getNews");
+
+        this.makePortfolioBulkhead = bulkheadRegistry.bulkhead("fastapi-makePortfolio",
+                BulkheadConfig.from(bulkheadRegistry.getDefaultConfig())
+                        .maxConcurrentCalls(makePortfolioMaxConcurrentCalls)
+                        .build());
+        this.currentPriceBulkhead = bulkheadRegistry.bulkhead("fastapi-currentPrice");
+        this.newsBulkhead = bulkheadRegistry.bulkhead("fastapi-getNews");
+    }
 
     public Mono<ResponseEntity<PortfolioDto.CreatedResultFromFastApiDto>> getCreatedPortfolioApi(PortfolioDto.CreateRequestToFastApiDto createRequestToFastApiDto) {
-        return WebClient.builder().baseUrl(baseUrl).build()
-                .post()
+        return webClient.post()
                 .uri("/makePortfolio/")
                 .body(Mono.just(createRequestToFastApiDto), PortfolioDto.CreateRequestDto.class)
                 .retrieve()
                 .toEntity(PortfolioDto.CreatedResultFromFastApiDto.class)
+                .transformDeferred(CircuitBreakerOperator.of(makePortfolioCircuitBreaker))
+                .transformDeferred(BulkheadOperator.of(makePortfolioBulkhead))
                 .doOnSuccess((e) -> System.out.println(e.getStatusCode()))
                 .doOnError((e) -> System.out.println(e.getMessage()));
     }
 
     public Mono<ResponseEntity<TickerDto.TickerPriceListDto>> getCurrentTickerPrice(List<String> tickers) {
-        return WebClient.builder().baseUrl(baseUrl).build()
-                .post()
+        return webClient.post()
                 .uri("/currentPrice/")
                 .body(Mono.just(Collections.singletonMap("tickers", tickers)), Map.class)
                 .retrieve()
                 .toEntity(TickerDto.TickerPriceListDto.class)
+                .transformDeferred(CircuitBreakerOperator.of(currentPriceCircuitBreaker))
+                .transformDeferred(BulkheadOperator.of(currentPriceBulkhead))
                 .doOnSuccess((e) -> System.out.println(e.getStatusCode()))
                 .doOnError((e) -> System.out.println(e.getMessage()));
     }
 
     public Mono<ResponseEntity<NewsDto>> getNewsFromFastApi(String ticker) {
-        return WebClient.builder().baseUrl(baseUrl).build()
-                .post()
+        return webClient.post()
                 .uri("/getNews/")
                 .body(Mono.just(Collections.singletonMap("ticker", ticker)), Map.class)
                 .retrieve()
                 .toEntity(NewsDto.class)
+                .transformDeferred(CircuitBreakerOperator.of(newsCircuitBreaker))
+                .transformDeferred(BulkheadOperator.of(newsBulkhead))
                 .doOnSuccess(e -> System.out.println(e.getStatusCode()))
                 .doOnError(e -> System.out.println(e.getMessage()));
     }
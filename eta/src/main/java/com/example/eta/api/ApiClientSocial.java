@@ -13,15 +13,17 @@ import java.util.Map;
 @Component
 public class ApiClientSocial {
 
-    @Value("${social.kakao.url}")
-    private String kakaoUrl;
+    private final WebClient webClient;
+
+    public ApiClientSocial(WebClientFactory webClientFactory, @Value("${social.kakao.url}") String kakaoUrl) {
+        this.webClient = webClientFactory.create("kakao", kakaoUrl);
+    }
 
     public Mono<ResponseEntity<Map>> getKakaoUserDetails(String accessToken) {
         // Map<String, List> requestBody = new HashMap<>();
         // requestBody.put("property_keys", List.of("kakao_account.email", "kakao_account.name"));
 
-        return WebClient.builder().baseUrl(kakaoUrl).build()
-                .post()
+        return webClient.post()
                 .header("Authorization", "Bearer " + accessToken)
                 .header("Content-Type", "application/x-www-form-urlencoded;charset=utf-8")
                 // .body(Mono.just(requestBody), Map.class)
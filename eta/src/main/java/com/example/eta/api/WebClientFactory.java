@@ -0,0 +1,84 @@
+package com.example.eta.api;
+
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 서버(FastAPI, 카카오, Expo)를 호출하는 {@link WebClient}를 만듭니다.
+ *
+ * <p> 외부 서버마다 이름을 붙여 Reactor Netty 커넥션 풀을 하나씩 두고, 같은 이름으로 만든 클라이언트는 풀을 공유합니다.
+ * 클라이언트는 요청마다 만들지 말고, 사용하는 쪽에서 한 번 만들어 재사용해야 커넥션(TLS 세션 포함)이 재사용됩니다.
+ *
+ * <p> 풀 설정은 {@code http-client.<이름>.*} 속성으로 바꿀 수 있습니다.
+ * <ul>
+ *     <li> {@code max-connections}: 최대 커넥션 수 (기본 50)
+ *     <li> {@code pending-acquire-timeout}: 커넥션을 기다리는 최대 시간(ms) (기본 5000)
+ *     <li> {@code max-idle-time}: 사용하지 않는 커넥션을 유지하는 시간(ms) (기본 30000)
+ *     <li> {@code connect-timeout}: 연결 제한 시간(ms) (기본 3000)
+ *     <li> {@code response-timeout}: 응답 제한 시간(ms) (기본 10000, {@link #create(String, String, int)}로 바꿀 수 있음)
+ * </ul>
+ * https 서버에는 ALPN으로 HTTP/2를 먼저 시도하고, 지원하지 않으면 HTTP/1.1을 사용합니다.
+ * 풀 사용량은 Micrometer의 {@code reactor.netty.connection.provider.*} 지표(활성, 유휴, 대기 커넥션 수)로 확인할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WebClientFactory {
+
+    private final Environment environment;
+
+    private final Map<String, ConnectionProvider> connectionProviders = new ConcurrentHashMap<>();
+
+    public WebClient create(String name, String baseUrl) {
+        return create(name, baseUrl, 10000);
+    }
+
+    /**
+     * @param defaultResponseTimeout {@code response-timeout} 속성이 없을 때 사용할 응답 제한 시간(ms)
+     */
+    public WebClient create(String name, String baseUrl, int defaultResponseTimeout) {
+        HttpClient httpClient = HttpClient.create(connectionProviders.computeIfAbsent(name, this::createConnectionProvider))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, getProperty(name, "connect-timeout", 3000))
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(getProperty(name, "response-timeout", defaultResponseTimeout)))
+                .compress(true);
+        if (baseUrl.startsWith("https")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @PreDestroy
+    public void dispose() {
+        connectionProviders.values().forEach(ConnectionProvider::dispose);
+    }
+
+    private ConnectionProvider createConnectionProvider(String name) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(getProperty(name, "max-connections", 50))
+                .pendingAcquireTimeout(Duration.ofMillis(getProperty(name, "pending-acquire-timeout", 5000)))
+                .maxIdleTime(Duration.ofMillis(getProperty(name, "max-idle-time", 30000)))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    private int getProperty(String name, String key, int defaultValue) {
+        return environment.getProperty("http-client." + name + "." + key, Integer.class, defaultValue);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.eta.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 한 트랜잭션 안의 INSERT, UPDATE를 JDBC 배치로 묶어 전송합니다.
+ *
+ * <p> 같은 테이블에 대한 문장이 이어지도록 INSERT, UPDATE를 정렬하고 {@code jpa.batch-size}개씩 묶습니다.
+ * MySQL은 {@code rewriteBatchedStatements}를 켜야 묶인 INSERT가 여러 행을 가진 하나의 문장으로 전송됩니다.
+ * IDENTITY 키를 쓰는 엔티티의 INSERT는 Hibernate가 묶지 않으므로, 여러 행을 한 번에 쓰는 곳은 {@code saveAll}이나 JDBC 배치를 직접 사용합니다.
+ */
+@Configuration
+public class JpaBatchConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer batchHibernatePropertiesCustomizer(@Value("${jpa.batch-size:100}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null && dataSource.getJdbcUrl().startsWith("jdbc:mysql")) {
+                    dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
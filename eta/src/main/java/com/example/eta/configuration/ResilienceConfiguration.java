@@ -0,0 +1,65 @@
+package com.example.eta.configuration;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+
+/**
+ * 외부 서버 호출에 사용하는 서킷 브레이커, 벌크헤드의 기본 설정입니다.
+ *
+ * <p> 서킷 브레이커는 최근 {@code resilience.circuit-breaker.window-size}번의 호출 중 실패(4xx 응답 제외) 또는 느린 호출의 비율이
+ * 임계값을 넘으면 열리고, {@code resilience.circuit-breaker.open-duration} 동안 호출하지 않고 바로 실패합니다.
+ * 벌크헤드는 동시 호출 수를 제한하며, 자리가 없으면 기다리지 않고 바로 실패합니다.
+ *
+ * <p> 상태와 호출 결과는 Micrometer의 {@code resilience4j.circuitbreaker.*}, {@code resilience4j.bulkhead.*} 지표로 노출됩니다.
+ */
+@Configuration
+public class ResilienceConfiguration {
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(
+            @Value("${resilience.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${resilience.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${resilience.circuit-breaker.slow-call-duration:10000}") long slowCallDuration,
+            @Value("${resilience.circuit-breaker.open-duration:30000}") long openDuration) {
+        return CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(windowSize)
+                .minimumNumberOfCalls(Math.min(10, windowSize))
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDuration))
+                .waitDurationInOpenState(Duration.ofMillis(openDuration))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .recordException(e -> !(e instanceof WebClientResponseException responseException
+                        && responseException.getStatusCode().is4xxClientError()))
+                .build());
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(@Value("${resilience.bulkhead.max-concurrent-calls:10}") int maxConcurrentCalls) {
+        return BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+    }
+
+    @Bean
+    public MeterBinder circuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry);
+    }
+
+    @Bean
+    public MeterBinder bulkheadMetrics(BulkheadRegistry bulkheadRegistry) {
+        return TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry);
+    }
+}
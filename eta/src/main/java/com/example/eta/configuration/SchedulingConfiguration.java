@@ -0,0 +1,27 @@
+package com.example.eta.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * {@code @Scheduled} 작업을 여러 스레드에서 실행합니다.
+ * 기본 스케줄러는 스레드가 하나뿐이어서, 야간 리밸런싱 작업이 도는 동안 알림 전송 등 다른 주기 작업이 멈추게 됩니다.
+ */
+@Configuration
+public class SchedulingConfiguration implements SchedulingConfigurer {
+
+    @Value("${scheduler.pool-size:4}")
+    private int poolSize;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("scheduling-");
+        taskScheduler.initialize();
+        taskRegistrar.setTaskScheduler(taskScheduler);
+    }
+}
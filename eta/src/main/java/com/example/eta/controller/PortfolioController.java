@@ -4,6 +4,7 @@ import com.example.eta.auth.entity.UserPrincipal;
 import com.example.eta.dto.PortfolioDto;
 import com.example.eta.entity.Portfolio;
 import com.example.eta.entity.User;
+import com.example.eta.service.AutoPortfolioJobService;
 import com.example.eta.service.PortfolioService;
 import com.example.eta.service.UserService;
 import lombok.AllArgsConstructor;
@@ -23,23 +24,33 @@ public class PortfolioController {
 
     private final UserService userService;
     private final PortfolioService portfolioService;
+    private final AutoPortfolioJobService autoPortfolioJobService;
 
+    /**
+     * 포트폴리오를 생성하고 바로 202를 반환합니다. 종목 구성(FastAPI 최적화)은 별도 작업으로 진행되며,
+     * 진행 상태는 {@code GET /api/portfolio/create/auto/{job_id}}로 확인합니다.
+     */
     @PostMapping("/create/auto")
-    public ResponseEntity<Map<String, Integer>> createAutoPortfolio(@RequestBody PortfolioDto.CreateRequestDto createRequestDto,
-                                                                    @AuthenticationPrincipal UserPrincipal userPrincipal) throws Exception {
+    public ResponseEntity<PortfolioDto.AutoPortfolioJobDto> createAutoPortfolio(@RequestBody PortfolioDto.CreateRequestDto createRequestDto,
+                                                                                @AuthenticationPrincipal UserPrincipal userPrincipal) {
         // 유저 정보 가져오기
         User user = userService.findByEmail(userPrincipal.getEmail());
 
         // DB에 포트폴리오 생성
         Portfolio portfolio = portfolioService.createInitAutoPortfolio(user, createRequestDto);
 
-        // FastAPI 서버로부터 포트폴리오 결과 받아오고 초기화
-        portfolioService.initializeAutoPortfolio(portfolio, createRequestDto);
+        // FastAPI 서버로부터 포트폴리오 결과 받아오고 초기화하는 작업 등록
+        PortfolioDto.AutoPortfolioJobDto job = autoPortfolioJobService.submit(userPrincipal.getEmail(), portfolio, createRequestDto);
 
-        Map<String, Integer> responseData = new HashMap<>();
-        responseData.put("pfId", portfolio.getPfId());
+        return ResponseEntity.accepted().body(job);
+    }
 
-        return ResponseEntity.ok(responseData);
+    @GetMapping("/create/auto/{job_id}")
+    public ResponseEntity<PortfolioDto.AutoPortfolioJobDto> getAutoPortfolioJob(@PathVariable("job_id") String jobId,
+                                                                                @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return autoPortfolioJobService.getJob(userPrincipal.getEmail(), jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @PostMapping("/create/manual")
@@ -73,6 +84,15 @@ public class PortfolioController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 여러 종목의 매수/매도를 순서대로 한 번에 반영합니다. 하나라도 실패하면 모두 반영되지 않습니다.
+     */
+    @PostMapping("/{port_id}/trade")
+    public ResponseEntity<Void> tradeStocks(@PathVariable("port_id") Integer pfId, @RequestBody PortfolioDto.TradeRequestDto tradeRequestDto) {
+        portfolioService.tradeStocks(pfId, tradeRequestDto.getTrades());
+        return ResponseEntity.ok().build();
+    }
+
     @GetMapping
     public ResponseEntity<PortfolioDto.PortfolioInfoListDto> getPortfolioInfos(@AuthenticationPrincipal UserPrincipal userPrincipal) {
         User user = userService.findByEmail(userPrincipal.getEmail());
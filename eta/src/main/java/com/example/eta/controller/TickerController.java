@@ -2,15 +2,13 @@ package com.example.eta.controller;
 
 import com.example.eta.dto.NewsDto;
 import com.example.eta.dto.TickerDto;
-import com.example.eta.entity.Ticker;
 import com.example.eta.service.NewsService;
+import com.example.eta.service.StockScreener;
 import com.example.eta.service.TickerService;
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 import static com.example.eta.util.Utility.decompose;
 
 @RestController
@@ -20,6 +18,7 @@ public class TickerController {
 
     private final NewsService newsService;
     private final TickerService tickerService;
+    private final StockScreener stockScreener;
 
     @GetMapping("/{ticker}")
     public ResponseEntity<TickerDto.TickerDetailDto> getTicker(@PathVariable("ticker") String ticker) {
@@ -38,18 +37,15 @@ public class TickerController {
 
     @GetMapping("/search")
     public ResponseEntity<TickerDto.TickerInfoListDto> searchStocks(@RequestParam String text) {
-        List<Ticker> tickers = tickerService.getSearchedTicker(decompose(text));
-
         TickerDto.TickerInfoListDto tickerInfoListDto = TickerDto.TickerInfoListDto.builder()
-                .searchedList(tickers.stream()
-                        .map(ticker -> TickerDto.TickerInfo.builder()
-                                .ticker(ticker.getTicker())
-                                .name(ticker.getName())
-                                .exchange(ticker.getExchange())
-                                .build())
-                        .toList())
+                .searchedList(tickerService.getSearchedTicker(decompose(text)))
                 .build();
 
         return ResponseEntity.ok(tickerInfoListDto);
     }
+
+    @PostMapping("/screen")
+    public ResponseEntity<TickerDto.ScreenResultDto> screenStocks(@RequestBody TickerDto.ScreenRequestDto screenRequestDto) {
+        return ResponseEntity.ok(stockScreener.screen(screenRequestDto));
+    }
 }
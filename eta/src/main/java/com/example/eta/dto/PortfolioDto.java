@@ -1,5 +1,6 @@
 package com.example.eta.dto;
 
+import com.example.eta.enums.PortfolioJobStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -53,6 +54,8 @@ public class PortfolioDto {
         private List<Float> total_radio_final;
         private float final_returns;
         private float final_vol;
+        // 정수 주식 수로 나누기 전의 종목별 비중, 투자 금액과 관계없음 (직접 계산한 경우에만 있음)
+        private List<Float> weights;
     }
 
     @Data
@@ -88,6 +91,14 @@ public class PortfolioDto {
         private float price;
     }
 
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TradeRequestDto {
+        private List<StockDetailDto> trades;
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -137,4 +148,14 @@ public class PortfolioDto {
     public static class CreateManualResponseDto {
         private int id;
     }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AutoPortfolioJobDto {
+        private String jobId;
+        private int pfId;
+        private PortfolioJobStatus status;
+    }
 }
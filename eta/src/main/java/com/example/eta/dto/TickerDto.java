@@ -1,11 +1,13 @@
 package com.example.eta.dto;
 
+import com.example.eta.enums.ValueFactor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 public class TickerDto {
 
@@ -63,4 +65,48 @@ public class TickerDto {
         private List<TickerPrice> prices;
     }
 
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScreenRequestDto {
+        private List<String> sectors;
+        private List<String> exchanges;
+        private List<FactorRangeDto> ranges;
+        private ValueFactor sortBy;
+        private boolean ascending;
+        private Integer limit;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FactorRangeDto {
+        private ValueFactor factor;
+        private Float min;
+        private Float max;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScreenedTicker {
+        private String ticker;
+        private String name;
+        private String exchange;
+        private String sectorName;
+        private Map<ValueFactor, Float> factors;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScreenResultDto {
+        private int total;
+        private List<ScreenedTicker> tickers;
+    }
+
 }
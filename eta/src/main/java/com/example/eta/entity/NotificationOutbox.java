@@ -0,0 +1,95 @@
+package com.example.eta.entity;
+
+import com.example.eta.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 전송할 푸시 알림입니다. 리밸런싱 알림과 같은 트랜잭션에서 저장되고, {@code NotificationOutboxRelay}가 읽어 전송합니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "notification_outbox")
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long outboxId;
+
+    @Column(nullable = false)
+    private String expoPushToken;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String body;
+
+    @Column(name = "pf_id", nullable = false)
+    private int pfId;
+
+    @Column(name = "rn_id", nullable = false)
+    private int rnId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate;
+
+    private LocalDateTime sentDate;
+
+    // 전송 대기(PENDING)인 알림을 가져갈 수 있게 되는 시각
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 전송 중(SENDING)인 알림을 다른 실행이 다시 가져갈 수 있게 되는 시각
+    private LocalDateTime leaseUntil;
+
+    public void markSending(LocalDateTime leaseUntil) {
+        this.status = OutboxStatus.SENDING;
+        this.leaseUntil = leaseUntil;
+    }
+
+    public void markSent(LocalDateTime sentDate) {
+        this.status = OutboxStatus.SENT;
+        this.sentDate = sentDate;
+        this.leaseUntil = null;
+        this.attempts++;
+    }
+
+    /**
+     * 일시적으로 실패한 알림을 {@code backoff * 2^(시도 횟수 - 1)}(최대 {@code maxBackoff}) 뒤에 다시 시도하도록 표시합니다.
+     * 시도 횟수가 {@code maxAttempts}에 이르면 실패로 처리합니다.
+     */
+    public void markFailedAttempt(int maxAttempts, LocalDateTime now, Duration backoff, Duration maxBackoff) {
+        this.attempts++;
+        this.status = this.attempts >= maxAttempts ? OutboxStatus.FAILED : OutboxStatus.PENDING;
+        this.leaseUntil = null;
+        Duration delay = backoff.multipliedBy(1L << Math.min(this.attempts - 1, 30));
+        this.nextAttemptAt = now.plus(delay.compareTo(maxBackoff) < 0 ? delay : maxBackoff);
+    }
+
+    /**
+     * 다시 보내도 성공할 수 없는 알림(등록 해제된 기기 등)을 남은 시도 횟수와 관계없이 실패로 처리합니다.
+     */
+    public void markFailed() {
+        this.attempts++;
+        this.status = OutboxStatus.FAILED;
+        this.leaseUntil = null;
+    }
+}
@@ -25,4 +25,14 @@ public class Statistic {
     @Column(nullable = false)
     private int totalPortfolio;
 
+    // 아래 값은 date 직전 하루 동안의 집계
+    @Column(nullable = false)
+    private int newUser;
+
+    @Column(nullable = false)
+    private int newPortfolio;
+
+    @Column(nullable = false)
+    private int activeUser;
+
 }
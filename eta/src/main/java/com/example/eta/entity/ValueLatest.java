@@ -0,0 +1,84 @@
+package com.example.eta.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 종목별 최신 {@code score_date}의 {@code value} 행입니다. {@link com.example.eta.scheduler.ValueLatestUpdater}가 갱신합니다.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "value_latest")
+public class ValueLatest {
+
+    @Id
+    @Column(name = "ticker", nullable = false, length = 8)
+    private String ticker;
+
+    @Column(name = "score_date", nullable = false)
+    private LocalDateTime scoreDate;
+
+    @Column(name = "sector_name", nullable = false, length = 40)
+    private String sectorName;
+
+    @Column(name = "roe", nullable = true)
+    private Float roe;
+
+    @Column(name = "roa", nullable = true)
+    private Float roa;
+
+    @Column(name = "gpa", nullable = true)
+    private Float gpa;
+
+    @Column(name = "gm", nullable = true)
+    private Float gm;
+
+    @Column(name = "op", nullable = true)
+    private Float op;
+
+    @Column(name = "cfroa", nullable = true)
+    private Float cfroa;
+
+    @Column(name = "ev_sales", nullable = true)
+    private Float evSales;
+
+    @Column(name = "per", nullable = true)
+    private Float per;
+
+    @Column(name = "pbr", nullable = true)
+    private Float pbr;
+
+    @Column(name = "pcr", nullable = true)
+    private Float pcr;
+
+    @Column(name = "psr", nullable = true)
+    private Float psr;
+
+    @Column(name = "dps", nullable = true)
+    private Float dps;
+
+    @Column(name = "12m_ret", nullable = true)
+    private Float twelveMonthRet;
+
+    @Column(name = "k_ratio", nullable = true)
+    private Float kRatio;
+
+    @Column(name = "quality", nullable = true)
+    private Float quality;
+
+    @Column(name = "value", nullable = true)
+    private Float value;
+
+    @Column(name = "momentum", nullable = true)
+    private Float momentum;
+
+    @Column(name = "score", nullable = true)
+    private Float score;
+
+    @Column(name = "ranking", nullable = true)
+    private Integer ranking;
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.eta.enums;
+
+import lombok.Getter;
+
+/**
+ * 목표 비중을 정수 주식 수로 바꾸는 방식입니다.
+ */
+@Getter
+public enum AllocationStrategy {
+    LEGACY("기존 반복 배분 방식"),
+    LARGEST_REMAINDER("최대 잔여 방식");
+
+    private String description;
+
+    AllocationStrategy(String description) {
+        this.description = description;
+    }
+}
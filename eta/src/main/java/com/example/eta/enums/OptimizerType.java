@@ -0,0 +1,18 @@
+package com.example.eta.enums;
+
+import lombok.Getter;
+
+/**
+ * 자동 포트폴리오의 종목별 비중을 계산하는 곳입니다.
+ */
+@Getter
+public enum OptimizerType {
+    FASTAPI("FastAPI 서버"),
+    LOCAL("price 테이블 기반 자체 계산");
+
+    private String description;
+
+    OptimizerType(String description) {
+        this.description = description;
+    }
+}
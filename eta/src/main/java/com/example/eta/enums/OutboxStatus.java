@@ -0,0 +1,17 @@
+package com.example.eta.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum OutboxStatus {
+    PENDING("전송 대기"),
+    SENDING("전송 중"),
+    SENT("전송 완료"),
+    FAILED("전송 실패");
+
+    private String description;
+
+    OutboxStatus(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.eta.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum PortfolioJobStatus {
+    PENDING("생성 중"),
+    READY("생성 완료"),
+    FAILED("생성 실패");
+
+    private String description;
+
+    PortfolioJobStatus(String description) {
+        this.description = description;
+    }
+}
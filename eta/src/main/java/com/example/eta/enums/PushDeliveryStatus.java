@@ -0,0 +1,16 @@
+package com.example.eta.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum PushDeliveryStatus {
+    DELIVERED("전송 성공"),
+    TRANSIENT_FAILURE("일시적 실패, 다시 전송"),
+    PERMANENT_FAILURE("영구 실패, 다시 전송하지 않음");
+
+    private String description;
+
+    PushDeliveryStatus(String description) {
+        this.description = description;
+    }
+}
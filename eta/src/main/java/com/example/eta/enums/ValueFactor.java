@@ -0,0 +1,23 @@
+package com.example.eta.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ValueFactor {
+    ROE("자기자본이익률"),
+    ROA("총자산이익률"),
+    GPA("매출총이익/총자산"),
+    PER("주가수익비율"),
+    PBR("주가순자산비율"),
+    PCR("주가현금흐름비율"),
+    PSR("주가매출비율"),
+    TWELVE_MONTH_RET("12개월 수익률"),
+    K_RATIO("K-ratio"),
+    SCORE("종합 점수");
+
+    private String description;
+
+    ValueFactor(String description) {
+        this.description = description;
+    }
+}
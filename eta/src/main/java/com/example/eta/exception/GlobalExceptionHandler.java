@@ -1,5 +1,7 @@
 package com.example.eta.exception;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.Ordered;
@@ -11,6 +13,8 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @RestControllerAdvice
 @Order(value = Ordered.LOWEST_PRECEDENCE)
 public class GlobalExceptionHandler {
@@ -29,6 +33,14 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    // 외부 서버(FastAPI)의 서킷 브레이커가 열려 있거나 동시 호출 수가 가득 찬 경우
+    // 또는 자동 포트폴리오 생성 작업 대기열이 가득 찬 경우
+    @ExceptionHandler(value = {CallNotPermittedException.class, BulkheadFullException.class, RejectedExecutionException.class})
+    protected ResponseEntity<Void> handleExternalServiceUnavailableException(RuntimeException e) {
+        logger.warn(e.getMessage());
+        return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(value = {MailSendException.class})
     protected ResponseEntity<Void> handleMailSendException(MailSendException e) {
         return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -0,0 +1,4 @@
+package com.example.eta.exception.portfolio;
+
+public class InvalidTradeException extends RuntimeException {
+}
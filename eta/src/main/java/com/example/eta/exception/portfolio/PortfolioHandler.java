@@ -19,4 +19,9 @@ public class PortfolioHandler {
     protected ResponseEntity<Void> handleCannotSellStockException(CannotSellStockException e) {
         return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(value = {InvalidTradeException.class})
+    protected ResponseEntity<Void> handleInvalidTradeException(InvalidTradeException e) {
+        return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+    }
 }
@@ -0,0 +1,20 @@
+package com.example.eta.repository;
+
+import com.example.eta.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * {@code now}까지 다시 시도할 시각이 된 전송 대기 중인 알림과 전송 기한이 지난 전송 중인 알림을 오래된 순으로 최대 {@code limit}개 잠그고 반환합니다.
+     * 다른 트랜잭션이 잠근 행은 건너뛰므로, 여러 인스턴스가 동시에 호출해도 같은 알림을 가져가지 않습니다.
+     */
+    @Query(value = "SELECT * FROM notification_outbox " +
+            "WHERE (status = 'PENDING' AND next_attempt_at <= ?1) OR (status = 'SENDING' AND lease_until < ?1) " +
+            "ORDER BY outbox_id LIMIT ?2 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutbox> claimPending(LocalDateTime now, int limit);
+}
@@ -0,0 +1,38 @@
+package com.example.eta.repository;
+
+import com.example.eta.entity.PortfolioRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 매수/매도 기록({@code portfolio_record})을 JDBC 배치로 한 번에 저장합니다.
+ *
+ * <p> {@link PortfolioRecord}는 IDENTITY 키를 사용해 JPA로 저장하면 행마다 INSERT가 따로 실행되므로,
+ * 여러 기록을 함께 저장하는 곳에서는 이 클래스를 사용합니다. 저장한 기록은 영속성 컨텍스트에 올라가지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PortfolioRecordWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(List<PortfolioRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO portfolio_record (record_date, is_buy, number, price, ticker, pf_id) VALUES (?, ?, ?, ?, ?, ?)",
+                records, records.size(), (ps, record) -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(record.getRecordDate()));
+                    ps.setBoolean(2, record.isBuy());
+                    ps.setInt(3, record.getNumber());
+                    ps.setFloat(4, record.getPrice());
+                    ps.setString(5, record.getTicker().getTicker());
+                    ps.setInt(6, record.getPortfolio().getPfId());
+                });
+    }
+}
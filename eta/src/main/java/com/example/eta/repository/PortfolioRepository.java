@@ -1,12 +1,26 @@
 package com.example.eta.repository;
 
 import com.example.eta.entity.Portfolio;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface PortfolioRepository extends JpaRepository<Portfolio, Integer> {
     List<Portfolio> findAllByIsAutoIsTrue();
+
+    /**
+     * {@code lastPfId}보다 큰 포트폴리오 id를 오름차순으로 {@code pageable} 크기만큼 반환합니다. (키셋 페이지네이션)
+     *
+     * <p> 배치 작업에서 전체 포트폴리오를 순회할 때, 마지막으로 받은 id를 다음 호출에 넘겨 사용합니다.
+     */
+    @Query("SELECT p.pfId FROM Portfolio p WHERE p.pfId > :lastPfId ORDER BY p.pfId")
+    List<Integer> findPfIdsAfter(@Param("lastPfId") int lastPfId, Pageable pageable);
+
+    long countByCreatedDateGreaterThanEqualAndCreatedDateLessThan(LocalDateTime from, LocalDateTime to);
 }
@@ -5,6 +5,7 @@ import com.example.eta.entity.PortfolioTicker;
 import com.example.eta.entity.Ticker;
 import com.example.eta.entity.compositekey.PortfolioTickerId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +15,10 @@ public interface PortfolioTickerRepository extends JpaRepository<PortfolioTicker
     List<PortfolioTicker> findAllByPortfolio(Portfolio portfolio);
 
     Optional<PortfolioTicker> findByPortfolioAndTicker(Portfolio portfolio, Ticker ticker);
+
+    /**
+     * 모든 보유 종목의 (종목 코드, 포트폴리오 id) 쌍을 반환합니다.
+     */
+    @Query("SELECT pt.ticker.ticker, pt.portfolio.pfId FROM PortfolioTicker pt")
+    List<Object[]> findAllTickerAndPfIds();
 }
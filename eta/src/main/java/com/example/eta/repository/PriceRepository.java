@@ -6,6 +6,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,4 +20,46 @@ public interface PriceRepository extends JpaRepository<Price, PriceId> {
             "ON p1.ticker = p2.ticker AND p1.date = p2.max_date"
             , nativeQuery = true)
     Optional<Price> findLatestPriceByTicker(String ticker);
+
+    @Query(value = "SELECT p1.ticker, p1.close, p1.date FROM price p1 " +
+            "JOIN (SELECT ticker, MAX(date) AS max_date " +
+            "FROM price GROUP BY ticker) p2 " +
+            "ON p1.ticker = p2.ticker AND p1.date = p2.max_date"
+            , nativeQuery = true)
+    List<Price> findAllLatestPrices();
+
+    // (ticker, date) 기본키 인덱스만으로 종목별 MAX(date)를 찾으므로 종목 수와 무관하게 한 번의 쿼리로 처리됩니다.
+    @Query(value = "SELECT p1.ticker, p1.close, p1.date FROM price p1 " +
+            "JOIN (SELECT ticker, MAX(date) AS max_date " +
+            "FROM price WHERE ticker IN (?1) GROUP BY ticker) p2 " +
+            "ON p1.ticker = p2.ticker AND p1.date = p2.max_date"
+            , nativeQuery = true)
+    List<Price> findLatestPricesByTickers(Collection<String> tickers);
+
+    /**
+     * 여러 종목의 {@code from} 이후 종가를 날짜 순으로 반환합니다. 각 원소는 (종목 코드, 날짜, 종가)입니다.
+     */
+    @Query("SELECT p.ticker.ticker, p.date, p.close FROM Price p WHERE p.ticker.ticker IN ?1 AND p.date >= ?2 ORDER BY p.date")
+    List<Object[]> findClosesByTickersSince(Collection<String> tickers, LocalDateTime from);
+
+    /**
+     * 모든 종목의 {@code after} 이후(포함하지 않음) 종가를 날짜 순으로 반환합니다. 각 원소는 (종목 코드, 날짜, 종가)입니다.
+     */
+    @Query("SELECT p.ticker.ticker, p.date, p.close FROM Price p WHERE p.date > ?1 ORDER BY p.date")
+    List<Object[]> findAllClosesAfter(LocalDateTime after);
+
+    @Query(value = "SELECT MAX(date) FROM price", nativeQuery = true)
+    Optional<LocalDateTime> findLatestDate();
+
+    /**
+     * {@code date}의 종가 수를 반환합니다. 종가는 종목별로 나누어 저장되므로, 최신 날짜가 같아도 저장 중에는 값이 늘어날 수 있습니다.
+     */
+    long countByDate(LocalDateTime date);
+
+    /**
+     * {@code from}부터 {@code to}까지(모두 포함) 양수인 종가의 수와 합을 반환합니다. 결과는 (종가 수, 종가 합) 한 행입니다.
+     * 이미 읽은 기간의 종가가 다시 저장되었는지(수정 종가 재계산 등) 확인하는 데 사용합니다.
+     */
+    @Query(value = "SELECT COUNT(*), SUM(close) FROM price WHERE date >= ?1 AND date <= ?2 AND close > 0", nativeQuery = true)
+    List<Object[]> findCloseChecksum(LocalDateTime from, LocalDateTime to);
 }
@@ -5,7 +5,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TickerRepository extends JpaRepository<Ticker, String> {
@@ -27,13 +29,16 @@ public interface TickerRepository extends JpaRepository<Ticker, String> {
             , nativeQuery = true)
     List<Ticker> findSafeAssetTickers(String country);
 
-    @Query(value = "SELECT ticker.ticker, ticker.name, ticker.exchange, ticker.market_cap, ticker.updated_date, ticker.dividend, ticker.equity, ticker.dart_code, ticker.sector_id " +
-            "FROM ticker INNER JOIN ticker_search on ticker.ticker = ticker_search.ticker " +
-            "WHERE ticker_search.decomposed_name LIKE CONCAT('%', ?1, '%') OR ticker_search.ticker LIKE CONCAT('%', ?1, '%') " +
-            "ORDER BY ticker.market_cap DESC " +
-            "LIMIT ?2"
+    /**
+     * 검색 가능한 모든 종목을 반환합니다. 각 원소는 (종목 코드, 종목명, 거래소, 시가총액, 자모 분해된 종목명)입니다.
+     */
+    @Query(value = "SELECT ticker.ticker, ticker.name, ticker.exchange, ticker.market_cap, ticker_search.decomposed_name " +
+            "FROM ticker INNER JOIN ticker_search on ticker.ticker = ticker_search.ticker"
             , nativeQuery = true)
-    List<Ticker> findTickersByDecomposedText(String decomposedText, int num);
+    List<Object[]> findAllSearchEntries();
+
+    @Query(value = "SELECT MAX(updated_date) FROM ticker", nativeQuery = true)
+    Optional<LocalDateTime> findLatestUpdatedDate();
 
     Ticker findByTicker(String ticker);
 }
@@ -2,8 +2,12 @@ package com.example.eta.repository;
 
 import com.example.eta.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +19,19 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * 마지막 접속일(접속 기록이 없으면 가입일)이 {@code threshold} 이전이고 푸시 토큰이 없는 활성 유저를 한 번에 비활성화합니다.
+     *
+     * @return 비활성화된 유저 수
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.enabled = false " +
+            "WHERE u.enabled = true AND COALESCE(u.lastLoginDate, u.createdDate) < :threshold " +
+            "AND NOT EXISTS (SELECT t FROM Token t WHERE t.userId = u.userId)")
+    int disableInactiveUsers(@Param("threshold") LocalDateTime threshold);
+
+    long countByCreatedDateGreaterThanEqualAndCreatedDateLessThan(LocalDateTime from, LocalDateTime to);
+
+    long countByLastLoginDateGreaterThanEqualAndLastLoginDateLessThan(LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,24 @@
+package com.example.eta.repository;
+
+import com.example.eta.entity.ValueLatest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ValueLatestRepository extends JpaRepository<ValueLatest, String> {
+
+    @Query("SELECT MAX(v.scoreDate) FROM ValueLatest v")
+    Optional<LocalDateTime> findLatestScoreDate();
+
+    /**
+     * 모든 종목의 최신 팩터 값을 반환합니다.
+     * 각 원소는 (종목 코드, 종목명, 거래소, 업종명, 팩터 값...)이며 팩터 값은 {@link com.example.eta.enums.ValueFactor} 순서입니다.
+     */
+    @Query("SELECT v.ticker, t.name, t.exchange, s.sectorName, " +
+            "v.roe, v.roa, v.gpa, v.per, v.pbr, v.pcr, v.psr, v.twelveMonthRet, v.kRatio, v.score " +
+            "FROM ValueLatest v JOIN Ticker t ON t.ticker = v.ticker JOIN t.sector s")
+    List<Object[]> findAllFactorsWithTicker();
+}
@@ -0,0 +1,40 @@
+package com.example.eta.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * {@code value} 테이블에 새로 적재된 행을 {@code value_latest}에 반영합니다.
+ *
+ * <p> {@code after} 이후의 행 중 종목별로 가장 최근 행만 골라 한 번의 {@code INSERT ... SELECT}로 넣고,
+ * 이미 있는 종목은 {@code ON DUPLICATE KEY UPDATE}로 덮어씁니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ValueLatestWriter {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO value_latest (`ticker`, `score_date`, `sector_name`, `ROE`, `ROA`, `GPA`, `GM`, `OP`, `CFROA`, `EV/sales`,
+                                      `PER`, `PBR`, `PCR`, `PSR`, `DPS`, `12M_ret`, `K_ratio`, `quality`, `value`, `momentum`, `score`, `ranking`)
+            SELECT v.`ticker`, v.`score_date`, v.`sector_name`, v.`ROE`, v.`ROA`, v.`GPA`, v.`GM`, v.`OP`, v.`CFROA`, v.`EV/sales`,
+                   v.`PER`, v.`PBR`, v.`PCR`, v.`PSR`, v.`DPS`, v.`12M_ret`, v.`K_ratio`, v.`quality`, v.`value`, v.`momentum`, v.`score`, v.`ranking`
+            FROM value v
+            JOIN (SELECT `ticker`, MAX(`score_date`) AS `score_date` FROM value WHERE `score_date` > ? GROUP BY `ticker`) latest
+              ON latest.`ticker` = v.`ticker` AND latest.`score_date` = v.`score_date`
+            ON DUPLICATE KEY UPDATE
+              `score_date` = v.`score_date`, `sector_name` = v.`sector_name`, `ROE` = v.`ROE`, `ROA` = v.`ROA`, `GPA` = v.`GPA`,
+              `GM` = v.`GM`, `OP` = v.`OP`, `CFROA` = v.`CFROA`, `EV/sales` = v.`EV/sales`, `PER` = v.`PER`, `PBR` = v.`PBR`,
+              `PCR` = v.`PCR`, `PSR` = v.`PSR`, `DPS` = v.`DPS`, `12M_ret` = v.`12M_ret`, `K_ratio` = v.`K_ratio`,
+              `quality` = v.`quality`, `value` = v.`value`, `momentum` = v.`momentum`, `score` = v.`score`, `ranking` = v.`ranking`
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsertScoresAfter(LocalDateTime after) {
+        jdbcTemplate.update(UPSERT_SQL, Timestamp.valueOf(after));
+    }
+}
@@ -4,13 +4,11 @@ import com.example.eta.entity.Value;
 import com.example.eta.entity.compositekey.ValueId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface ValueRepository extends JpaRepository<Value, ValueId> {
-    Optional<Value> findFirstByTickerTickerOrderByScoreDateDesc(String ticker);
-    @Query("SELECT v FROM Value v WHERE v.ticker.sector.sectorName = :sectorName")
-    List<Value> findBySectorName(@Param("sectorName") String sectorName);
-}
\ No newline at end of file
+    @Query("SELECT MAX(v.scoreDate) FROM Value v")
+    Optional<LocalDateTime> findLatestScoreDate();
+}
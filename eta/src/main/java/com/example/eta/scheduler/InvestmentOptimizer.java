@@ -0,0 +1,54 @@
+package com.example.eta.scheduler;
+
+/**
+ * 비중 리밸런싱 시 종목별 목표 주식 수(실수)를 정수 주식 수로 바꿉니다.
+ *
+ * <p> 종가, 비중, 주식 수를 모두 종목 순서로 정렬된 기본형 배열로 다루며, DB 조회나 맵 생성 없이 계산합니다.
+ * 종가는 호출하는 쪽에서 미리 조회해 넘겨줍니다.
+ *
+ * <p> 안전자산은 목표 수량의 정수 부분만 보유합니다. 그 외 종목은 목표 수량의 정수 부분에,
+ * 안전자산을 제외한 종목들의 목표 수량 합을 초기 비중대로 나눈 만큼을 더 보유합니다.
+ * 이전의 {@code Map<PortfolioTicker, ...>} 기반 반복 구현은 {@code newCash}가 갱신되지 않아 항상 첫 반복에서 종료되었으므로,
+ * 같은 결과를 내는 단일 패스로 계산합니다.
+ */
+public final class InvestmentOptimizer {
+
+    private InvestmentOptimizer() {
+    }
+
+    /**
+     * @param targetNum       종목별 목표 주식 수
+     * @param closes          종목별 종가
+     * @param initProportions 종목별 초기 비중
+     * @param safeAsset       종목별 안전자산 여부
+     * @return 종목별 정수 주식 수
+     */
+    public static int[] optimize(float[] targetNum, float[] closes, float[] initProportions, boolean[] safeAsset) {
+        int[] result = new int[targetNum.length];
+        optimize(targetNum, closes, initProportions, safeAsset, result);
+        return result;
+    }
+
+    /**
+     * {@link #optimize(float[], float[], float[], boolean[])}와 같으며, 결과를 {@code result}에 채웁니다.
+     */
+    public static void optimize(float[] targetNum, float[] closes, float[] initProportions, boolean[] safeAsset, int[] result) {
+        int n = targetNum.length;
+
+        // 안전자산을 제외한 종목들의 목표 수량 합
+        float cash = 0.0f;
+        for (int i = 0; i < n; i++) {
+            if (!safeAsset[i]) {
+                cash += targetNum[i];
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            int assetNum = (int) Math.floor(targetNum[i]);
+            if (!safeAsset[i]) {
+                assetNum += (int) (cash * initProportions[i] / closes[i]);
+            }
+            result[i] = assetNum;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.eta.scheduler;
+
+import com.example.eta.dto.PushMessageDto;
+import com.example.eta.entity.NotificationOutbox;
+import com.example.eta.enums.OutboxStatus;
+import com.example.eta.enums.PushDeliveryStatus;
+import com.example.eta.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code notification_outbox}에 쌓인 푸시 알림을 전송합니다.
+ *
+ * <p> 전송 대기 중인 알림을 최대 {@code notification.outbox.batch-size}개 {@code FOR UPDATE SKIP LOCKED}로 가져와
+ * 전송 중(SENDING)으로 표시하고 {@code notification.outbox.lease-duration} 뒤의 전송 기한을 기록한 뒤 바로 커밋합니다.
+ * {@link PushNotificationDispatcher}로 전송하는 동안에는 트랜잭션을 열지 않으며, 전송이 끝나면 새 트랜잭션에서 결과를 기록합니다.
+ * 대기 중인 알림이 없을 때까지 반복합니다.
+ *
+ * <p> 결과를 기록하기 전에 서버가 종료되면 전송 기한이 지난 뒤 다른 실행이 다시 가져가므로, 알림은 최소 한 번(at-least-once) 전송됩니다.
+ * 일시적으로 실패한 알림은 {@code notification.outbox.retry-backoff}부터 두 배씩(최대 {@code notification.outbox.max-retry-backoff}) 기다린 뒤
+ * {@code notification.outbox.max-attempts}번까지 다시 시도하므로, Expo 장애가 몇 시간 이어져도 알림을 잃지 않습니다.
+ * 기다리는 동안에는 가져가지 않으므로 실패한 알림이 새 알림의 전송을 막지 않습니다.
+ * 다시 보내도 성공할 수 없는 알림(등록 해제된 기기 등)은 바로 실패로 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final PushNotificationDispatcher pushNotificationDispatcher;
+    private final TransactionTemplate transactionTemplate;
+
+    private Logger logger = LoggerFactory.getLogger(NotificationOutboxRelay.class);
+
+    @Value("${notification.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${notification.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.retry-backoff:60000}")
+    private long retryBackoff;
+
+    @Value("${notification.outbox.max-retry-backoff:3600000}")
+    private long maxRetryBackoff;
+
+    @Value("${notification.outbox.lease-duration:300000}")
+    private long leaseDuration;
+
+    @Scheduled(fixedDelayString = "${notification.outbox.relay-interval:5000}")
+    public void relay() {
+        int claimed;
+        do {
+            claimed = relayBatch();
+        } while (claimed == batchSize);
+    }
+
+    /**
+     * @return 가져온 알림 수
+     */
+    private int relayBatch() {
+        // datetime 컬럼에 저장되는 값과 비교할 수 있도록 초 단위로 자름
+        LocalDateTime leaseUntil = LocalDateTime.now().plus(Duration.ofMillis(leaseDuration)).truncatedTo(ChronoUnit.SECONDS);
+        List<NotificationOutbox> outboxes = transactionTemplate.execute(status -> claim(leaseUntil));
+        if (outboxes.isEmpty()) {
+            return 0;
+        }
+
+        List<PushMessageDto> messages = outboxes.stream()
+                .map(outbox -> PushMessageDto.builder()
+                        .to(outbox.getExpoPushToken())
+                        .title(outbox.getTitle())
+                        .body(outbox.getBody())
+                        .data(new PushMessageDto.PushMessageData(outbox.getPfId(), outbox.getRnId()))
+                        .build())
+                .toList();
+        PushDeliveryStatus[] statuses = pushNotificationDispatcher.deliver(messages);
+
+        Map<Long, PushDeliveryStatus> results = new HashMap<>();
+        for (int i = 0; i < outboxes.size(); i++) {
+            results.put(outboxes.get(i).getOutboxId(), statuses[i]);
+        }
+        transactionTemplate.executeWithoutResult(status -> record(results, leaseUntil));
+        return outboxes.size();
+    }
+
+    private List<NotificationOutbox> claim(LocalDateTime leaseUntil) {
+        List<NotificationOutbox> outboxes = notificationOutboxRepository.claimPending(LocalDateTime.now(), batchSize);
+        for (NotificationOutbox outbox : outboxes) {
+            outbox.markSending(leaseUntil);
+        }
+        return outboxes;
+    }
+
+    private void record(Map<Long, PushDeliveryStatus> results, LocalDateTime leaseUntil) {
+        LocalDateTime now = LocalDateTime.now();
+        int sent = 0;
+        int dead = 0;
+        for (NotificationOutbox outbox : notificationOutboxRepository.findAllById(results.keySet())) {
+            // 전송 기한이 지나 다른 실행이 다시 가져간 알림은 그 실행이 기록함
+            if (outbox.getStatus() != OutboxStatus.SENDING || !leaseUntil.equals(outbox.getLeaseUntil())) {
+                continue;
+            }
+            switch (results.get(outbox.getOutboxId())) {
+                case DELIVERED -> {
+                    outbox.markSent(now);
+                    sent++;
+                }
+                case PERMANENT_FAILURE -> {
+                    outbox.markFailed();
+                    dead++;
+                }
+                case TRANSIENT_FAILURE -> outbox.markFailedAttempt(maxAttempts, now,
+                        Duration.ofMillis(retryBackoff), Duration.ofMillis(maxRetryBackoff));
+            }
+        }
+        logger.info("Relayed " + sent + "/" + results.size() + " push notifications from outbox (" + dead + " undeliverable)");
+    }
+}
@@ -2,55 +2,228 @@ package com.example.eta.scheduler;
 
 import com.example.eta.dto.PushMessageDto;
 import com.example.eta.entity.*;
-import com.example.eta.exception.FailToSendPushNotificationException;
+import com.example.eta.enums.AllocationStrategy;
 import com.example.eta.repository.*;
+import com.example.eta.service.LatestPriceProvider;
 import com.example.eta.service.PortfolioService;
+import com.example.eta.service.TickerPortfolioIndex;
+import com.example.eta.util.ShareAllocator;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
 @RequiredArgsConstructor
 public class PortfolioScheduler {
 
     private final PushNotificationService pushNotificationService;
+    private final NotificationOutboxRepository notificationOutboxRepository;
     private final PortfolioService portfolioService;
     private final PortfolioRepository portfolioRepository;
-    private final PriceRepository priceRepository;
+    private final LatestPriceProvider latestPriceProvider;
     private final RebalancingRepository rebalancingRepository;
     private final RebalancingTickerRepository rebalancingTickerRepository;
     private final StatisticRepository statisticRepository;
     private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TickerPortfolioIndex tickerPortfolioIndex;
 
     private Logger logger = LoggerFactory.getLogger(PortfolioScheduler.class);
 
+    @Value("${scheduler.rebalancing.parallelism:4}")
+    private int parallelism;
+
+    @Value("${scheduler.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${scheduler.rebalancing.incremental:false}")
+    private boolean incremental;
+
+    @Value("${scheduler.rebalancing.move-threshold:0.01}")
+    private float moveThreshold;
+
+    /**
+     * 증분 리밸런싱의 기준이 되는 종목별 종가입니다. 전체 리밸런싱을 한 번 실행하기 전에는 {@code null}입니다.
+     */
+    private volatile Map<String, Float> baselineCloses;
+
+    @Value("${rebalancing.allocation-strategy:LARGEST_REMAINDER}")
+    private AllocationStrategy allocationStrategy;
+
     @Scheduled(cron = "0 0 0 * * 1-5")
-    @Transactional
     public void doProportionRebalancing() {
-        updateStatistics();
+        latestPriceProvider.refresh();
+        transactionTemplate.executeWithoutResult(status -> updateStatistics());
         disableUser();
 
-        for (Portfolio portfolio : portfolioRepository.findAll()) {
-            portfolioService.updatePortfolioProportion(portfolio, false);
-            if (isProportionRebalancingNeeded(portfolio)) {
-                int rnId = createProportionRebalancing(portfolio);
+        if (incremental && baselineCloses != null) {
+            RebalancingJobSummary summary = rebalanceMovedPortfolios();
+            logger.info("Incremental proportion rebalancing finished: " + summary);
+        } else {
+            RebalancingJobSummary summary = rebalancePortfolios();
+            logger.info("Proportion rebalancing finished: " + summary);
+        }
+    }
+
+    /**
+     * 전체 포트폴리오의 비중 갱신, 리밸런싱 알림 생성을 작업 스레드 풀에서 병렬로 수행합니다.
+     *
+     * <p> 포트폴리오 id를 {@code scheduler.batch-size}개씩 키셋 페이지네이션으로 읽어 페이지 단위로 작업을 제출하므로,
+     * 전체 포트폴리오 수와 무관하게 메모리에는 한 페이지의 id만 유지됩니다.
+     *
+     * <p> 포트폴리오 하나가 하나의 작업 단위이며, 각 작업은 별도의 짧은 트랜잭션(영속성 컨텍스트)에서 실행됩니다.
+     * 한 포트폴리오의 실패는 다른 포트폴리오의 처리에 영향을 주지 않고, 실패 건수로만 집계됩니다.
+     * 푸시 알림은 직접 전송하지 않고 {@code notification_outbox}에 기록하며, {@link NotificationOutboxRelay}가 작업과 별개로 전송합니다.
+     *
+     * <p> 동시에 실행되는 작업 수는 {@code scheduler.rebalancing.parallelism}으로 설정하며, DB 커넥션 풀 크기보다 작아야 합니다.
+     *
+     * <p> 실행 시점의 종가는 증분 리밸런싱({@link #rebalanceMovedPortfolios()})의 기준 종가가 됩니다.
+     */
+    public RebalancingJobSummary rebalancePortfolios() {
+        long startTime = System.nanoTime();
+        Map<String, Float> closes = latestPriceProvider.getAllLatestCloses();
+        tickerPortfolioIndex.drainChangedPfIds();
+        RebalancingCounter counter = new RebalancingCounter();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("rebalancing-"));
+        try {
+            List<Integer> pfIds = portfolioRepository.findPfIdsAfter(0, PageRequest.of(0, batchSize));
+            while (!pfIds.isEmpty()) {
+                rebalancePortfolios(executorService, pfIds, counter);
+
+                int lastPfId = pfIds.get(pfIds.size() - 1);
+                pfIds = portfolioRepository.findPfIdsAfter(lastPfId, PageRequest.of(0, batchSize));
+            }
+            baselineCloses = closes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        return counter.toSummary(startTime);
+    }
+
+    /**
+     * 기준 종가 대비 {@code scheduler.rebalancing.move-threshold} 이상 움직인 종목을 보유한 포트폴리오와,
+     * 마지막 실행 이후 보유 종목이 바뀐 포트폴리오만 다시 평가합니다.
+     *
+     * <p> 대상 포트폴리오는 {@link TickerPortfolioIndex}로 찾습니다.
+     * 다시 평가한 종목만 기준 종가를 갱신하므로, 조금씩 누적되는 변동도 임계값을 넘는 시점에 반영됩니다.
+     * 평가에 실패한 포트폴리오는 다음 실행에서 다시 평가합니다.
+     */
+    public RebalancingJobSummary rebalanceMovedPortfolios() {
+        long startTime = System.nanoTime();
+        Map<String, Float> closes = latestPriceProvider.getAllLatestCloses();
+        Map<String, Float> newBaselineCloses = new HashMap<>(baselineCloses);
+        List<String> movedTickers = new ArrayList<>();
+        for (Map.Entry<String, Float> entry : closes.entrySet()) {
+            Float baselineClose = baselineCloses.get(entry.getKey());
+            if (baselineClose == null || Math.abs(entry.getValue() - baselineClose) > baselineClose * moveThreshold) {
+                movedTickers.add(entry.getKey());
+                newBaselineCloses.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        Set<Integer> targetPfIds = tickerPortfolioIndex.findPfIds(movedTickers);
+        targetPfIds.addAll(tickerPortfolioIndex.drainChangedPfIds());
+        List<Integer> sortedPfIds = targetPfIds.stream().sorted().toList();
+        logger.info(movedTickers.size() + " tickers moved, re-evaluating " + sortedPfIds.size() + " portfolios");
+
+        RebalancingCounter counter = new RebalancingCounter();
+        ExecutorService executorService = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("rebalancing-"));
+        try {
+            for (int from = 0; from < sortedPfIds.size(); from += batchSize) {
+                rebalancePortfolios(executorService, sortedPfIds.subList(from, Math.min(from + batchSize, sortedPfIds.size())), counter);
+            }
+            baselineCloses = newBaselineCloses;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        return counter.toSummary(startTime);
+    }
+
+    /**
+     * 포트폴리오 id 한 페이지를 작업 스레드 풀에 제출하고, 모두 끝날 때까지 기다립니다.
+     */
+    private void rebalancePortfolios(ExecutorService executorService, List<Integer> pfIds, RebalancingCounter counter) throws InterruptedException {
+        List<Callable<Void>> tasks = new ArrayList<>(pfIds.size());
+        for (Integer pfId : pfIds) {
+            tasks.add(() -> {
                 try {
-                    sendRebalancingPushNotification(portfolio.getUser().getToken().getExpoPushToken(), portfolio, rnId);
+                    if (rebalancePortfolio(pfId)) {
+                        counter.rebalanced.incrementAndGet();
+                    }
+                } catch (RuntimeException e) {
+                    counter.failed.incrementAndGet();
+                    tickerPortfolioIndex.markChanged(pfId);
+                    logger.error("Failed to rebalance portfolio " + pfId, e);
+                } finally {
+                    counter.processed.incrementAndGet();
                 }
-                catch (FailToSendPushNotificationException e) {
-                    logger.error("Failed to send push notification to " + portfolio.getUser().getEmail());
-                }
-            }
+                return null;
+            });
         }
+        executorService.invokeAll(tasks);
+    }
+
+    /**
+     * 포트폴리오 하나의 비중을 갱신하고, 필요하면 리밸런싱 알림과 전송할 푸시 알림({@code notification_outbox})을 한 트랜잭션에서 생성합니다.
+     *
+     * @return 리밸런싱 알림이 생성되었으면 {@code true}
+     */
+    private boolean rebalancePortfolio(int pfId) {
+        return transactionTemplate.execute(status -> {
+            Portfolio portfolio = portfolioRepository.findById(pfId).orElse(null);
+            if (portfolio == null) {
+                return false;
+            }
+
+            portfolioService.updatePortfolioProportion(portfolio, false);
+            if (!isProportionRebalancingNeeded(portfolio)) {
+                return false;
+            }
+
+            int rnId = createProportionRebalancing(portfolio);
+            Token token = portfolio.getUser().getToken();
+            if (token != null) {
+                PushMessageDto pushMessage = createRebalancingPushMessage(token.getExpoPushToken(), portfolio, rnId);
+                LocalDateTime now = LocalDateTime.now();
+                notificationOutboxRepository.save(NotificationOutbox.builder()
+                        .expoPushToken(pushMessage.getTo())
+                        .title(pushMessage.getTitle())
+                        .body(pushMessage.getBody())
+                        .pfId(pfId)
+                        .rnId(rnId)
+                        .createdDate(now)
+                        .nextAttemptAt(now)
+                        .build());
+            }
+            return true;
+        });
     }
 
     public boolean isProportionRebalancingNeeded(Portfolio portfolio) {
@@ -65,18 +238,27 @@ public class PortfolioScheduler {
     @Transactional
     public int createProportionRebalancing(Portfolio portfolio) {
         // 현재 총자산 계산하고, 각 종목별 비중에 따라 목표 보유 개수 계산
-        Map<PortfolioTicker, Float> currentAmountForTicker = new HashMap<>();
-        Map<PortfolioTicker, Float> newAssetNum = new HashMap<>();
-        float totalCurrentInvest = portfolioService.calculateAmount(portfolio, false, currentAmountForTicker);
-
-        for (PortfolioTicker portfolioTicker : portfolio.getPortfolioTickers()) {
-            float close = priceRepository.findLatestPriceByTicker(portfolioTicker.getTicker().getTicker())
-                    .get().getClose().floatValue();
-            newAssetNum.put(portfolioTicker, (totalCurrentInvest * portfolioTicker.getInitProportion() / close));
+        List<PortfolioTicker> portfolioTickers = portfolio.getPortfolioTickers();
+        float totalCurrentInvest = portfolioService.calculateAmount(portfolio, false, null);
+        Map<String, Float> latestCloses = portfolioService.getLatestCloses(portfolio);
+
+        int tickerNum = portfolioTickers.size();
+        float[] closes = new float[tickerNum];
+        float[] initProportions = new float[tickerNum];
+        float[] newAssetNum = new float[tickerNum];
+        boolean[] safeAsset = new boolean[tickerNum];
+        for (int i = 0; i < tickerNum; i++) {
+            PortfolioTicker portfolioTicker = portfolioTickers.get(i);
+            closes[i] = latestCloses.get(portfolioTicker.getTicker().getTicker());
+            initProportions[i] = portfolioTicker.getInitProportion();
+            newAssetNum[i] = totalCurrentInvest * initProportions[i] / closes[i];
+            safeAsset[i] = "안전자산".equals(portfolioTicker.getTicker().getEquity());
         }
 
         // Optimize
-        Map<PortfolioTicker, Integer> optimizedAssetNum = optimizeInvestment(newAssetNum);
+        int[] optimizedAssetNum = allocationStrategy == AllocationStrategy.LEGACY ?
+                InvestmentOptimizer.optimize(newAssetNum, closes, initProportions, safeAsset) :
+                ShareAllocator.allocate(initProportions, closes, totalCurrentInvest);
 
         // 매도, 매수 알림 생성
         Rebalancing rebalancing = Rebalancing.builder()
@@ -85,16 +267,15 @@ public class PortfolioScheduler {
                 .build();
         rebalancingRepository.save(rebalancing);
 
-        for (PortfolioTicker portfolioTicker : portfolio.getPortfolioTickers()) {
-            float close = priceRepository.findLatestPriceByTicker(portfolioTicker.getTicker().getTicker())
-                    .get().getClose().floatValue();
-            int newAssetNumForTicker = optimizedAssetNum.get(portfolioTicker);
+        for (int i = 0; i < tickerNum; i++) {
+            PortfolioTicker portfolioTicker = portfolioTickers.get(i);
+            float close = closes[i];
+            int newAssetNumForTicker = optimizedAssetNum[i];
             int currentAssetNumForTicker = portfolioTicker.getNumber();
             int diff = newAssetNumForTicker - currentAssetNumForTicker;
             if (diff > 0) {
                 // 매수
                 int numToBuy = diff;
-                if (numToBuy == 0) continue;
                 RebalancingTicker rebalancingTicker = rebalancingTickerRepository.save(RebalancingTicker.builder()
                         .rebalancing(rebalancing)
                         .number(numToBuy)
@@ -106,7 +287,6 @@ public class PortfolioScheduler {
             } else if (diff < 0) {
                 // 매도
                 int numToSell = -diff;
-                if (numToSell == 0) continue;
                 RebalancingTicker rebalancingTicker = rebalancingTickerRepository.save(RebalancingTicker.builder()
                         .rebalancing(rebalancing)
                         .number(numToSell)
@@ -120,81 +300,12 @@ public class PortfolioScheduler {
         return rebalancing.getRnId();
     }
 
-    private Map<PortfolioTicker, Integer> optimizeInvestment(Map<PortfolioTicker, Float> initAssetNum) {
-        int MAX_ITERATION = 100;
-        Map<PortfolioTicker, Integer> assetNumResult = new HashMap<>();
-
-        // initAssetNum의 값들을 출력하기
-        for (PortfolioTicker portfolioTicker : initAssetNum.keySet()) {
-            logger.info("initAssetNum: " + portfolioTicker.getTicker().getTicker() + " " + initAssetNum.get(portfolioTicker));
-        }
-
-        // 안전자산 제외한 종목들에 대해 주식 수 계산하기
-        Map<PortfolioTicker, Float> initAssetNumWithoutSafe = new HashMap<>();
-        Map<PortfolioTicker, Integer> initAssetNumWithoufSafeOld = new HashMap<>();
-        Map<PortfolioTicker, Integer> initAssetNumSafe = new HashMap<>(); // 안전자산 종목 주식 수(나중에 합쳐서 결과로 반환)
-        for (PortfolioTicker portfolioTicker : initAssetNum.keySet()) {
-            if (portfolioTicker.getTicker().getEquity().equals("안전자산")) {
-                initAssetNumSafe.put(portfolioTicker, (int) Math.floor(initAssetNum.get(portfolioTicker)));
-            } else {
-                initAssetNumWithoutSafe.put(portfolioTicker, initAssetNum.get(portfolioTicker));
-                initAssetNumWithoufSafeOld.put(portfolioTicker, (int) Math.floor(initAssetNum.get(portfolioTicker)));
-            }
-        }
-
-        // 소수 부분, 소수 부분 총합 계산
-        float cash = 0.0f;
-        Map<PortfolioTicker, Float> decimalPart = new HashMap<>();
-        for (PortfolioTicker portfolioTicker : initAssetNumWithoutSafe.keySet()) {
-            float num = initAssetNumWithoutSafe.get(portfolioTicker);
-            decimalPart.put(portfolioTicker, num - (int) num);
-            cash += num;
-        }
-
-        for (int i = 0; i < MAX_ITERATION; i++) {
-            // 배분할 현금을 최초 비중별로 나누고, 주식 수 정수부분, 소수부분 계산
-            Map<PortfolioTicker, Integer> assetNumInt = new HashMap<>();
-            Map<PortfolioTicker, Float> remainingDecimals = new HashMap<>();
-            for (PortfolioTicker portfolioTicker : initAssetNumWithoutSafe.keySet()) {
-                float close = priceRepository.findLatestPriceByTicker(portfolioTicker.getTicker().getTicker())
-                        .get().getClose().floatValue();
-                float initProportion = portfolioTicker.getInitProportion();
-                assetNumInt.put(portfolioTicker, (int)(cash * initProportion / close));
-                remainingDecimals.put(portfolioTicker, cash * initProportion / close - (int)((cash * initProportion) / close));
-            }
-
-            // 정수부분만큼 기존 주식 수에 더함
-            for (PortfolioTicker portfolioTicker : assetNumInt.keySet()) {
-                assetNumInt.put(portfolioTicker, assetNumInt.get(portfolioTicker) + initAssetNumWithoufSafeOld.get(portfolioTicker));
-            }
-
-            float newCash = 0.0f;
-            for (PortfolioTicker portfolioTicker : remainingDecimals.keySet()) {
-                float close = priceRepository.findLatestPriceByTicker(portfolioTicker.getTicker().getTicker())
-                        .get().getClose().floatValue();
-                cash += remainingDecimals.get(portfolioTicker) * close;
-            }
-
-            // 갱신된 주식 수가 변화가 없거나 더 이상의 금액 배분이 불가능한 경우 종료
-            if(assetNumInt.values().stream().reduce(0, Integer::sum) == initAssetNumWithoufSafeOld.values().stream().reduce(0, Integer::sum)
-                || Math.abs(cash - newCash) / newCash < 0.001 || cash == newCash || newCash == 0.0) {
-                assetNumResult.putAll(assetNumInt);
-                assetNumResult.putAll(initAssetNumSafe);
-                break;
-            }
-            initAssetNumWithoufSafeOld = assetNumInt;
-            cash = newCash;
-        }
-
-        // assetNumResult의 값을 출력하기
-        for (PortfolioTicker portfolioTicker : assetNumResult.keySet()) {
-            logger.info("assetNumResult: " + portfolioTicker.getTicker().getTicker() + " " + assetNumResult.get(portfolioTicker));
-        }
-
-        return assetNumResult;
+    public void sendRebalancingPushNotification(String to, Portfolio portfolio, int rnId) {
+        PushMessageDto pushMessage = createRebalancingPushMessage(to, portfolio, rnId);
+        pushNotificationService.triggerPushNotification(pushMessage.getTo(), pushMessage.getTitle(), pushMessage.getBody(), pushMessage.getData());
     }
 
-    public void sendRebalancingPushNotification(String to, Portfolio portfolio, int rnId) {
+    private PushMessageDto createRebalancingPushMessage(String to, Portfolio portfolio, int rnId) {
         String title = "리밸런싱 알림 생성";
 
         StringBuilder stringBuilder = new StringBuilder();
@@ -215,35 +326,52 @@ public class PortfolioScheduler {
                 .rnId(rnId)
                 .build();
 
-        pushNotificationService.triggerPushNotification(to, title, body, data);
+        return PushMessageDto.builder()
+                .to(to)
+                .title(title)
+                .body(body)
+                .data(data)
+                .build();
     }
 
+    /**
+     * 전체 유저 수, 포트폴리오 수와 직전 하루(어제 0시 ~ 오늘 0시)의 신규 유저 수, 신규 포트폴리오 수, 접속 유저 수를 기록합니다.
+     *
+     * <p> 모두 COUNT 쿼리로 계산하며, 하루 단위 값은 {@code created_date}, {@code last_login_date} 인덱스의 범위 조회로 계산합니다.
+     */
     @Transactional
     public void updateStatistics() {
         LocalDate localDate = LocalDate.now();
+        LocalDateTime to = localDate.atStartOfDay();
+        LocalDateTime from = to.minusDays(1);
 
-        // 유저 수
-        int totalUser = userRepository.findAll().size();
-
-        // 포트폴리오 수
-        int totalPortfolio = portfolioRepository.findAll().size();
-
-        // 통계 업데이트
         statisticRepository.save(Statistic.builder()
                 .date(localDate)
-                .totalUser(totalUser)
-                .totalPortfolio(totalPortfolio)
+                .totalUser((int) userRepository.count())
+                .totalPortfolio((int) portfolioRepository.count())
+                .newUser((int) userRepository.countByCreatedDateGreaterThanEqualAndCreatedDateLessThan(from, to))
+                .newPortfolio((int) portfolioRepository.countByCreatedDateGreaterThanEqualAndCreatedDateLessThan(from, to))
+                .activeUser((int) userRepository.countByLastLoginDateGreaterThanEqualAndLastLoginDateLessThan(from, to))
                 .build());
     }
 
-    @Transactional
+    /**
+     * 3개월 이상 접속하지 않았고 푸시 토큰이 없는 유저를 UPDATE 한 번으로 비활성화합니다.
+     */
     public void disableUser() {
-        List<User> users = userRepository.findAll();
-        for (User user : users) {
-            if ((user.getLastLoginDate() == null && user.getCreatedDate().isBefore(LocalDateTime.now().minusMonths(3)) && user.getToken() == null)
-                    || (user.getLastLoginDate() != null && user.getLastLoginDate().isBefore(LocalDateTime.now().minusMonths(3)) && user.getToken() == null)) {
-                user.setEnabled(false);
-            }
+        Integer disabled = transactionTemplate.execute(status ->
+                userRepository.disableInactiveUsers(LocalDateTime.now().minusMonths(3)));
+        logger.info("Disabled " + disabled + " inactive users");
+    }
+
+    private static class RebalancingCounter {
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger rebalanced = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        private RebalancingJobSummary toSummary(long startTime) {
+            return new RebalancingJobSummary(processed.get(), rebalanced.get(), failed.get(),
+                    Duration.ofNanos(System.nanoTime() - startTime));
         }
     }
 }
@@ -0,0 +1,168 @@
+package com.example.eta.scheduler;
+
+import com.example.eta.api.WebClientFactory;
+import com.example.eta.dto.PushMessageDto;
+import com.example.eta.enums.PushDeliveryStatus;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 푸시 알림을 묶어 Expo 푸시 API로 전송합니다.
+ *
+ * <p> {@link #deliver(List)}는 메시지를 최대 {@code push.expo.batch-size}개(Expo 제한 100개)씩 묶어 한 번의 요청으로 전송하고,
+ * 전송 결과가 나올 때까지 기다립니다. 동시에 진행되는 요청 수는 {@code push.expo.concurrency}로 제한됩니다.
+ *
+ * <p> 요청 자체가 실패한 경우(연결 오류, 429, 5xx)에는 배치 전체를, 응답의 티켓 중 {@code MessageRateExceeded} 오류가 있는 경우에는 해당 메시지만
+ * 지수 백오프로 최대 {@code push.expo.max-retries}번 다시 전송합니다.
+ * 다시 보내도 성공할 수 없는 티켓 오류({@code DeviceNotRegistered}, {@code MessageTooBig})는 {@link PushDeliveryStatus#PERMANENT_FAILURE}로,
+ * 그 밖의 실패는 {@link PushDeliveryStatus#TRANSIENT_FAILURE}로 반환합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PushNotificationDispatcher {
+
+    private static final Set<String> TRANSIENT_TICKET_ERRORS = Set.of("MessageRateExceeded");
+    private static final Set<String> PERMANENT_TICKET_ERRORS = Set.of("DeviceNotRegistered", "MessageTooBig");
+
+    private final WebClientFactory webClientFactory;
+
+    private Logger logger = LoggerFactory.getLogger(PushNotificationDispatcher.class);
+
+    @Value("${push.expo.url:https://exp.host/--/api/v2/push/send}")
+    private String expoUrl;
+
+    @Value("${push.expo.batch-size:100}")
+    private int batchSize;
+
+    @Value("${push.expo.concurrency:4}")
+    private int concurrency;
+
+    @Value("${push.expo.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${push.expo.retry-backoff:1000}")
+    private long retryBackoff;
+
+    private WebClient webClient;
+
+    @PostConstruct
+    public void init() {
+        webClient = webClientFactory.create("expo", expoUrl);
+    }
+
+    /**
+     * 푸시 알림을 {@code push.expo.batch-size}개씩 나누어 동시에 전송하고, 재전송까지 끝나면 메시지별 전송 결과를 반환합니다.
+     */
+    public PushDeliveryStatus[] deliver(List<PushMessageDto> messages) {
+        List<PushDeliveryStatus[]> results = Flux.fromIterable(messages)
+                .buffer(batchSize)
+                .flatMapSequential(batch -> sendBatch(batch, 0), concurrency)
+                .collectList()
+                .block();
+
+        PushDeliveryStatus[] statuses = new PushDeliveryStatus[messages.size()];
+        int offset = 0;
+        for (PushDeliveryStatus[] result : results) {
+            System.arraycopy(result, 0, statuses, offset, result.length);
+            offset += result.length;
+        }
+        return statuses;
+    }
+
+    private Mono<PushDeliveryStatus[]> sendBatch(List<PushMessageDto> messages, int attempt) {
+        return webClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .header("Accept-Encoding", "gzip, deflate")
+                .bodyValue(messages)
+                .retrieve()
+                .bodyToMono(String.class)
+                .retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(retryBackoff)).filter(this::isTransient))
+                .flatMap(body -> handleTickets(messages, body, attempt))
+                .onErrorResume(e -> {
+                    logger.error("Failed to send " + messages.size() + " push notifications", e);
+                    PushDeliveryStatus[] statuses = new PushDeliveryStatus[messages.size()];
+                    Arrays.fill(statuses, PushDeliveryStatus.TRANSIENT_FAILURE);
+                    return Mono.just(statuses);
+                });
+    }
+
+    /**
+     * 응답의 티켓은 요청한 메시지와 같은 순서로 옵니다.
+     */
+    private Mono<PushDeliveryStatus[]> handleTickets(List<PushMessageDto> messages, String body, int attempt) {
+        JsonArray tickets = JsonParser.parseString(body).getAsJsonObject().getAsJsonArray("data");
+        PushDeliveryStatus[] statuses = new PushDeliveryStatus[messages.size()];
+        List<Integer> retryIndices = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            JsonObject ticket = i < tickets.size() ? tickets.get(i).getAsJsonObject() : null;
+            if (ticket != null && ticket.has("status") && "ok".equals(ticket.get("status").getAsString())) {
+                statuses[i] = PushDeliveryStatus.DELIVERED;
+                continue;
+            }
+
+            String error = ticketError(ticket);
+            if (TRANSIENT_TICKET_ERRORS.contains(error) && attempt < maxRetries) {
+                retryIndices.add(i);
+            } else {
+                statuses[i] = PERMANENT_TICKET_ERRORS.contains(error) ?
+                        PushDeliveryStatus.PERMANENT_FAILURE :
+                        PushDeliveryStatus.TRANSIENT_FAILURE;
+                logger.warn("Push notification to " + messages.get(i).getTo() + " failed: " + error);
+            }
+        }
+
+        if (retryIndices.isEmpty()) {
+            return Mono.just(statuses);
+        }
+        List<PushMessageDto> retryMessages = retryIndices.stream().map(messages::get).toList();
+        return Mono.delay(Duration.ofMillis(retryBackoff << attempt))
+                .then(Mono.defer(() -> sendBatch(retryMessages, attempt + 1)))
+                .map(retried -> {
+                    for (int i = 0; i < retried.length; i++) {
+                        statuses[retryIndices.get(i)] = retried[i];
+                    }
+                    return statuses;
+                });
+    }
+
+    private String ticketError(JsonObject ticket) {
+        if (ticket == null) {
+            return "MissingTicket";
+        }
+        JsonElement details = ticket.get("details");
+        if (details != null && details.isJsonObject() && details.getAsJsonObject().has("error")) {
+            return details.getAsJsonObject().get("error").getAsString();
+        }
+        return ticket.has("message") ? ticket.get("message").getAsString() : "Unknown";
+    }
+
+    private boolean isTransient(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        return e instanceof WebClientRequestException;
+    }
+}
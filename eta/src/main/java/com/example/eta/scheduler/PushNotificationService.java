@@ -1,12 +1,13 @@
 package com.example.eta.scheduler;
 
 
+import com.example.eta.api.WebClientFactory;
 import com.example.eta.dto.PushMessageDto;
 import com.example.eta.dto.RebalancingDto;
 import com.example.eta.exception.FailToSendPushNotificationException;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -14,10 +15,18 @@ import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 
+/**
+ * 푸시 알림 한 건을 동기로 전송합니다. 전송 결과가 바로 필요한 경우에 사용하며, 스케줄러의 대량 전송은 {@link PushNotificationDispatcher}를 사용합니다.
+ */
 @Component
-@RequiredArgsConstructor
 public class PushNotificationService {
 
+    private final WebClient webClient;
+
+    public PushNotificationService(WebClientFactory webClientFactory, @Value("${push.expo.url:https://exp.host/--/api/v2/push/send}") String expoUrl) {
+        this.webClient = webClientFactory.create("expo", expoUrl);
+    }
+
     public void triggerPushNotification(String expoPushToken, String title, String body, PushMessageDto.PushMessageData data) throws FailToSendPushNotificationException {
         PushMessageDto pushMessageDto = PushMessageDto.builder()
                 .to(expoPushToken)
@@ -26,8 +35,7 @@ public class PushNotificationService {
                 .data(data)
                 .build();
 
-        ResponseEntity<String> responseEntity = WebClient.builder().baseUrl("https://exp.host/--/api/v2/push/send").build()
-                .post()
+        ResponseEntity<String> responseEntity = webClient.post()
                 .body(Mono.just(pushMessageDto), PushMessageDto.class)
                 .header("Content-Type", "application/json")
                 .header("Accept", "application/json")
@@ -0,0 +1,23 @@
+package com.example.eta.scheduler;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 비중 리밸런싱 배치 1회 실행 결과입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class RebalancingJobSummary {
+    private final int processed;
+    private final int rebalanced;
+    private final int failed;
+    private final Duration elapsed;
+
+    @Override
+    public String toString() {
+        return "processed=" + processed + ", rebalanced=" + rebalanced + ", failed=" + failed + ", elapsed=" + elapsed.toMillis() + "ms";
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.eta.scheduler;
+
+import com.example.eta.repository.ValueLatestRepository;
+import com.example.eta.repository.ValueLatestWriter;
+import com.example.eta.repository.ValueRepository;
+import com.example.eta.service.SectorRankIndex;
+import com.example.eta.service.StockScreener;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * {@code value} 테이블에 새 {@code score_date}의 팩터가 적재되면 {@code value_latest}를 갱신합니다.
+ *
+ * <p> {@code value}는 외부 배치가 적재하므로, {@code value}와 {@code value_latest}의 최신 날짜를 비교해
+ * {@code value_latest}보다 새로운 행만 반영합니다. {@code value_latest}가 비어 있으면 전체를 반영합니다.
+ * 반영 후에는 {@link SectorRankIndex}와 {@link StockScreener}를 바로 다시 만듭니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ValueLatestUpdater {
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ValueRepository valueRepository;
+    private final ValueLatestRepository valueLatestRepository;
+    private final ValueLatestWriter valueLatestWriter;
+    private final SectorRankIndex sectorRankIndex;
+    private final StockScreener stockScreener;
+
+    private Logger logger = LoggerFactory.getLogger(ValueLatestUpdater.class);
+
+    @Scheduled(fixedDelayString = "${value.latest.refresh-interval:600000}")
+    public void update() {
+        if (updateProjection()) {
+            sectorRankIndex.refresh();
+            stockScreener.refresh();
+        }
+    }
+
+    /**
+     * @return {@code value_latest}를 갱신했는지 여부
+     */
+    private boolean updateProjection() {
+        Optional<LocalDateTime> latestScoreDate = valueRepository.findLatestScoreDate();
+        LocalDateTime projectedScoreDate = valueLatestRepository.findLatestScoreDate().orElse(BEGINNING);
+        if (latestScoreDate.isEmpty() || !latestScoreDate.get().isAfter(projectedScoreDate)) {
+            return false;
+        }
+
+        valueLatestWriter.upsertScoresAfter(projectedScoreDate);
+        logger.info("Updated value_latest with scores after " + projectedScoreDate + " (" + latestScoreDate.get() + ")");
+        return true;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.eta.service;
+
+import com.example.eta.dto.PortfolioDto;
+import com.example.eta.entity.Portfolio;
+import com.example.eta.enums.PortfolioJobStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+/**
+ * 자동 포트폴리오 초기화({@link PortfolioService#initializeAutoPortfolio})를 요청 스레드와 분리된 작업 스레드 풀에서 실행합니다.
+ *
+ * <p> 작업 스레드 수는 {@code portfolio.auto.executor.pool-size}, 대기 작업 수는 {@code portfolio.auto.executor.queue-capacity}로 제한되며,
+ * 대기열이 가득 차면 {@link RejectedExecutionException}으로 바로 거절합니다.
+ * 작업 상태는 메모리에만 보관하며, 끝난 작업은 {@code portfolio.auto.job-retention}(ms) 뒤에 삭제됩니다.
+ *
+ * <p> 초기화에 실패한 포트폴리오는 삭제합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AutoPortfolioJobService {
+
+    private final PortfolioService portfolioService;
+
+    private Logger logger = LoggerFactory.getLogger(AutoPortfolioJobService.class);
+
+    @Value("${portfolio.auto.executor.pool-size:4}")
+    private int poolSize;
+
+    @Value("${portfolio.auto.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${portfolio.auto.job-retention:3600000}")
+    private long jobRetention;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private ExecutorService executorService;
+
+    @PostConstruct
+    public void start() {
+        executorService = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("auto-portfolio-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    /**
+     * 포트폴리오 초기화 작업을 등록하고 작업 id를 반환합니다.
+     *
+     * @throws RejectedExecutionException 대기 중인 작업이 너무 많은 경우
+     */
+    public PortfolioDto.AutoPortfolioJobDto submit(String email, Portfolio portfolio, PortfolioDto.CreateRequestDto createRequestDto) {
+        Job job = new Job(UUID.randomUUID().toString(), portfolio.getPfId(), email);
+        jobs.put(job.id, job);
+        try {
+            executorService.execute(() -> run(job, createRequestDto));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            portfolioService.deletePortfolio(portfolio.getPfId());
+            throw e;
+        }
+        return job.toDto();
+    }
+
+    /**
+     * 작업 상태를 반환합니다. 작업이 없거나 다른 유저의 작업이면 빈 값을 반환합니다.
+     */
+    public Optional<PortfolioDto.AutoPortfolioJobDto> getJob(String email, String jobId) {
+        return Optional.ofNullable(jobs.get(jobId))
+                .filter(job -> job.email.equals(email))
+                .map(Job::toDto);
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.auto.job-retention:3600000}")
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusNanos(jobRetention * 1_000_000L);
+        jobs.values().removeIf(job -> job.finishedDate != null && job.finishedDate.isBefore(threshold));
+    }
+
+    // 요청 스레드의 영속성 컨텍스트가 닫힌 뒤 실행되므로 포트폴리오를 id로 다시 읽음
+    private void run(Job job, PortfolioDto.CreateRequestDto createRequestDto) {
+        try {
+            portfolioService.initializeAutoPortfolio(job.pfId, createRequestDto);
+            job.finish(PortfolioJobStatus.READY);
+        } catch (Exception e) {
+            logger.error("Failed to initialize auto portfolio " + job.pfId, e);
+            try {
+                portfolioService.deletePortfolio(job.pfId);
+            } catch (RuntimeException deleteException) {
+                logger.error("Failed to delete uninitialized portfolio " + job.pfId, deleteException);
+            }
+            job.finish(PortfolioJobStatus.FAILED);
+        }
+    }
+
+    private static class Job {
+        private final String id;
+        private final int pfId;
+        private final String email;
+        private volatile PortfolioJobStatus status = PortfolioJobStatus.PENDING;
+        private volatile LocalDateTime finishedDate;
+
+        private Job(String id, int pfId, String email) {
+            this.id = id;
+            this.pfId = pfId;
+            this.email = email;
+        }
+
+        private void finish(PortfolioJobStatus status) {
+            this.finishedDate = LocalDateTime.now();
+            this.status = status;
+        }
+
+        private PortfolioDto.AutoPortfolioJobDto toDto() {
+            return new PortfolioDto.AutoPortfolioJobDto(id, pfId, status);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.eta.service;
+
+import com.example.eta.api.ApiClientFastApi;
+import com.example.eta.dto.TickerDto;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FastAPI 서버의 현재가 조회({@link ApiClientFastApi#getCurrentTickerPrice(List)}) 결과를 종목별로 잠시 보관합니다.
+ *
+ * <p> 현재가는 장중에는 {@code price.quote.ttl}(기본 10초), 장외 시간에는 {@code price.quote.off-market-ttl}(기본 10분) 동안 재사용합니다.
+ * 여러 종목을 요청하면 캐시에 없는 종목만 모아 한 번 조회하며,
+ * 같은 종목을 조회 중인 요청이 이미 있으면 새로 조회하지 않고 그 결과를 함께 기다립니다.
+ * 조회할 종목은 모두 먼저 종목별 {@link Sinks.One}으로 등록한 뒤 한 번만 조회하고, 조회가 끝나면 등록한 모든 종목의 결과를 채웁니다.
+ * FastAPI 서버 호출이 실패하면(서킷 브레이커가 열린 경우 포함) DB의 최근 종가로 대신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentPriceCache {
+
+    private static final ZoneId MARKET_ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalTime MARKET_OPEN = LocalTime.of(9, 0);
+    private static final LocalTime MARKET_CLOSE = LocalTime.of(15, 30);
+
+    private final ApiClientFastApi apiClientFastApi;
+    private final LatestPriceProvider latestPriceProvider;
+
+    private Logger logger = LoggerFactory.getLogger(CurrentPriceCache.class);
+
+    @Value("${price.quote.ttl:10000}")
+    private long ttl;
+
+    @Value("${price.quote.off-market-ttl:600000}")
+    private long offMarketTtl;
+
+    private final Map<String, Quote> quotes = new ConcurrentHashMap<>();
+    private final Map<String, Sinks.One<Float>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 종목별 현재가를 요청한 순서대로 반환합니다.
+     *
+     * @throws NoSuchElementException FastAPI 서버가 현재가를 주지 않은 종목이 있는 경우
+     */
+    public Mono<List<TickerDto.TickerPrice>> getCurrentPrices(List<String> tickers) {
+        long now = System.nanoTime();
+        List<Mono<Float>> prices = new ArrayList<>(tickers.size());
+        Map<String, Sinks.One<Float>> claimed = new LinkedHashMap<>();
+
+        for (String ticker : tickers) {
+            Quote quote = quotes.get(ticker);
+            if (quote != null && quote.expiresAt() - now > 0) {
+                prices.add(Mono.just(quote.price()));
+                continue;
+            }
+
+            Sinks.One<Float> price = Sinks.one();
+            Sinks.One<Float> existing = inFlight.putIfAbsent(ticker, price);
+            if (existing == null) {
+                claimed.put(ticker, price);
+                prices.add(price.asMono());
+            } else {
+                prices.add(existing.asMono());
+            }
+        }
+
+        // 모든 종목을 등록한 뒤에 조회를 시작해야 함께 기다리는 요청이 일부 종목만 조회된 결과를 받지 않음
+        if (!claimed.isEmpty()) {
+            Map<String, Sinks.One<Float>> claimedPrices = Map.copyOf(claimed);
+            fetch(List.copyOf(claimed.keySet())).defaultIfEmpty(Map.of()).subscribe(
+                    result -> claimedPrices.forEach((ticker, price) -> {
+                        inFlight.remove(ticker, price);
+                        Float value = result.get(ticker);
+                        if (value != null) {
+                            price.tryEmitValue(value);
+                        } else {
+                            price.tryEmitEmpty();
+                        }
+                    }),
+                    e -> claimedPrices.forEach((ticker, price) -> {
+                        inFlight.remove(ticker, price);
+                        price.tryEmitError(e);
+                    }));
+        }
+
+        return Flux.fromIterable(tickers)
+                .zipWithIterable(prices)
+                .concatMap(tuple -> tuple.getT2()
+                        .map(price -> new TickerDto.TickerPrice(tuple.getT1(), price))
+                        .switchIfEmpty(Mono.error(() -> new NoSuchElementException("No current price for " + tuple.getT1()))))
+                .collectList();
+    }
+
+    private Mono<Map<String, Float>> fetch(List<String> tickers) {
+        return apiClientFastApi.getCurrentTickerPrice(tickers)
+                .map(response -> {
+                    long expiresAt = System.nanoTime() + currentTtl() * 1_000_000L;
+                    Map<String, Float> result = new HashMap<>();
+                    for (TickerDto.TickerPrice tickerPrice : response.getBody().getPrices()) {
+                        result.put(tickerPrice.getTicker(), tickerPrice.getCurrent_price());
+                        quotes.put(tickerPrice.getTicker(), new Quote(tickerPrice.getCurrent_price(), expiresAt));
+                    }
+                    return result;
+                })
+                .onErrorResume(e -> fallback(tickers, e));
+    }
+
+    /**
+     * 현재가를 받지 못하면 DB의 최근 종가를 대신 사용합니다. 이 값은 캐시에 넣지 않습니다.
+     */
+    private Mono<Map<String, Float>> fallback(List<String> tickers, Throwable e) {
+        logger.warn("Failed to get current prices from FastAPI, falling back to latest closes: " + e);
+        return Mono.fromCallable(() -> latestPriceProvider.getLatestCloses(tickers))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private long currentTtl() {
+        ZonedDateTime now = ZonedDateTime.now(MARKET_ZONE);
+        boolean weekday = now.getDayOfWeek() != DayOfWeek.SATURDAY && now.getDayOfWeek() != DayOfWeek.SUNDAY;
+        LocalTime time = now.toLocalTime();
+        return weekday && !time.isBefore(MARKET_OPEN) && !time.isAfter(MARKET_CLOSE) ? ttl : offMarketTtl;
+    }
+
+    private record Quote(float price, long expiresAt) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.eta.service;
+
+import com.example.eta.entity.Price;
+import com.example.eta.repository.PriceRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * {@code price} 테이블의 종목별 최근 종가를 메모리에 보관하는 {@link LatestPriceProvider} 구현체입니다.
+ *
+ * <p> 종가 전체를 한 번의 쿼리로 읽어 불변 맵을 만들고, {@code price}의 최신 날짜 또는 그 날짜의 종가 수가 바뀐 경우에만 새 맵을 만들어 참조를 교체합니다.
+ * 종가는 종목별로 나누어 저장되므로, 저장 중에 만든 맵은 남은 종목이 저장된 뒤 다시 만들어집니다.
+ * 조회하는 쪽은 교체 중에도 이전 맵 또는 새 맵 중 하나를 온전히 보게 됩니다.
+ *
+ * <p> 캐시에 없는 종목(새로 상장된 종목 등)은 {@link PriceRepository#findLatestPricesByTickers(Collection)}로 한 번에 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LatestPriceCache implements LatestPriceProvider {
+
+    private final PriceRepository priceRepository;
+
+    private Logger logger = LoggerFactory.getLogger(LatestPriceCache.class);
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @Override
+    public float getLatestClose(String ticker) {
+        if (snapshot == Snapshot.EMPTY) {
+            refresh();
+        }
+        Float close = snapshot.closes().get(ticker);
+        if (close != null) {
+            return close;
+        }
+        return priceRepository.findLatestPriceByTicker(ticker).get().getClose().floatValue();
+    }
+
+    @Override
+    public Map<String, Float> getLatestCloses(Collection<String> tickers) {
+        if (snapshot == Snapshot.EMPTY) {
+            refresh();
+        }
+        Map<String, Float> cachedCloses = snapshot.closes();
+        Map<String, Float> closes = new HashMap<>();
+        List<String> missingTickers = new ArrayList<>();
+        for (String ticker : tickers) {
+            Float close = cachedCloses.get(ticker);
+            if (close != null) {
+                closes.put(ticker, close);
+            } else {
+                missingTickers.add(ticker);
+            }
+        }
+
+        if (!missingTickers.isEmpty()) {
+            for (Price price : priceRepository.findLatestPricesByTickers(missingTickers)) {
+                if (price.getClose() != null) {
+                    closes.put(price.getTicker().getTicker(), price.getClose().floatValue());
+                }
+            }
+        }
+        return closes;
+    }
+
+    @Override
+    public Map<String, Float> getAllLatestCloses() {
+        if (snapshot == Snapshot.EMPTY) {
+            refresh();
+        }
+        return snapshot.closes();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${price.cache.refresh-interval:600000}")
+    public synchronized void refresh() {
+        Optional<LocalDateTime> latestDate = priceRepository.findLatestDate();
+        if (latestDate.isEmpty()) {
+            return;
+        }
+        long latestCount = priceRepository.countByDate(latestDate.get());
+        if (latestDate.get().equals(snapshot.date()) && latestCount == snapshot.latestCount()) {
+            return;
+        }
+
+        Map<String, Float> closes = new HashMap<>();
+        for (Price price : priceRepository.findAllLatestPrices()) {
+            if (price.getClose() != null) {
+                closes.put(price.getTicker().getTicker(), price.getClose().floatValue());
+            }
+        }
+        snapshot = new Snapshot(latestDate.get(), latestCount, Collections.unmodifiableMap(closes));
+        logger.info("Loaded latest close of " + closes.size() + " tickers (" + latestDate.get() + ", " + latestCount + " closes)");
+    }
+
+    // latestCount: 최신 날짜의 종가 수
+    private record Snapshot(LocalDateTime date, long latestCount, Map<String, Float> closes) {
+        static final Snapshot EMPTY = new Snapshot(null, 0, Map.of());
+    }
+}
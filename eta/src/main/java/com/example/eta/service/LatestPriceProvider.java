@@ -0,0 +1,34 @@
+package com.example.eta.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 종목별 가장 최근 종가를 제공합니다.
+ *
+ * <p> 평가금액, 비중 계산 등 종가가 필요한 곳에서는 {@code PriceRepository}를 직접 조회하지 않고 이 인터페이스를 사용합니다.
+ */
+public interface LatestPriceProvider {
+
+    /**
+     * 종목의 가장 최근 종가를 반환합니다.
+     *
+     * @throws java.util.NoSuchElementException 종가 정보가 없는 종목인 경우
+     */
+    float getLatestClose(String ticker);
+
+    /**
+     * 여러 종목의 가장 최근 종가를 한 번에 반환합니다. 종가 정보가 없는 종목은 결과 맵에 포함되지 않습니다.
+     */
+    Map<String, Float> getLatestCloses(Collection<String> tickers);
+
+    /**
+     * 종가 정보가 있는 모든 종목의 가장 최근 종가를 반환합니다. 반환된 맵은 수정할 수 없습니다.
+     */
+    Map<String, Float> getAllLatestCloses();
+
+    /**
+     * {@code price} 테이블에 새로운 종가가 적재되었으면 이를 반영합니다.
+     */
+    void refresh();
+}
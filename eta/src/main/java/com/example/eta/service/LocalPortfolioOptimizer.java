@@ -0,0 +1,159 @@
+package com.example.eta.service;
+
+import com.example.eta.dto.PortfolioDto;
+import com.example.eta.repository.PriceRepository;
+import com.example.eta.util.MeanVarianceOptimizer;
+import com.example.eta.util.ShareAllocator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * FastAPI 서버의 포트폴리오 최적화(/makePortfolio/)를 {@code price} 테이블의 종가로 직접 계산합니다.
+ *
+ * <p> 최근 {@code portfolio.optimizer.lookback-days}일 동안의 로그 수익률과 공분산은 {@link ReturnStatisticsStore}에 미리 계산된 값을 사용하고,
+ * 없는 경우(새로 상장된 종목 등)에만 모든 종목의 종가가 있는 날짜로 직접 계산합니다.
+ * 주식 비중은 {@link MeanVarianceOptimizer#minimumVariance}로 구합니다. 결과는 FastAPI 서버와 같은 형태로 반환하며,
+ * 정수 주식 수로 나누기 전의 종목별 비중({@code weights})을 함께 반환합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LocalPortfolioOptimizer {
+
+    // 직접 계산할 때 필요한 최소 수익률 관측 수 (FastAPI 서버에는 없는 기준)
+    private static final int MIN_OBSERVATIONS = 20;
+    // 주식 종목별 최소 비중 (FastAPI 서버의 하한 0.05와 같음)
+    private static final double MIN_STOCK_WEIGHT = 0.05;
+
+    private final PriceRepository priceRepository;
+    private final LatestPriceProvider latestPriceProvider;
+    private final ReturnStatisticsStore returnStatisticsStore;
+
+    @Value("${portfolio.optimizer.lookback-days:252}")
+    private int lookbackDays;
+
+    /**
+     * {@code tickers}의 마지막 {@code safeAssetCount}개 종목은 안전자산으로, {@code safeAssetRatio}를 똑같이 나누어 가집니다.
+     * 나머지 주식 종목은 {@code 1 - safeAssetRatio}를 최소 분산 비중으로 나누어 가집니다.
+     *
+     * @throws IllegalStateException 종가 이력이 부족하거나 최근 종가가 없는 종목이 있는 경우
+     */
+    public PortfolioDto.CreatedResultFromFastApiDto optimize(List<String> tickers, int safeAssetCount, float safeAssetRatio, int initialCash) {
+        int n = tickers.size();
+        int stockCount = n - safeAssetCount;
+        if (stockCount <= 0 || safeAssetCount <= 0) {
+            throw new IllegalStateException("Need both stocks and safe assets, got " + tickers);
+        }
+
+        double[] annualReturns;
+        double[][] cov;
+        Optional<ReturnStatisticsStore.Statistics> statistics = returnStatisticsStore.getStatistics(tickers);
+        if (statistics.isPresent()) {
+            annualReturns = statistics.get().annualReturns();
+            cov = statistics.get().annualCovariance();
+        } else {
+            double[][] closes = loadCloses(tickers);
+            if (closes.length - 1 < MIN_OBSERVATIONS) {
+                throw new IllegalStateException("Not enough price history for " + tickers + ": " + closes.length + " days");
+            }
+            double[][] returns = MeanVarianceOptimizer.logReturns(closes);
+            annualReturns = MeanVarianceOptimizer.annualReturns(returns, n);
+            cov = MeanVarianceOptimizer.annualCovariance(returns, n);
+        }
+
+        double[][] stockCov = new double[stockCount][];
+        for (int i = 0; i < stockCount; i++) {
+            stockCov[i] = Arrays.copyOf(cov[i], stockCount);
+        }
+        double[] stockWeights = MeanVarianceOptimizer.minimumVariance(stockCov, MIN_STOCK_WEIGHT, 1.0);
+
+        float[] weights = new float[n];
+        List<Float> targetWeights = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            weights[i] = i < stockCount ?
+                    (float) (stockWeights[i] * (1 - safeAssetRatio)) :
+                    safeAssetRatio / safeAssetCount;
+            targetWeights.add(weights[i]);
+        }
+
+        Map<String, Float> latestCloses = latestPriceProvider.getLatestCloses(tickers);
+        float[] prices = new float[n];
+        for (int i = 0; i < n; i++) {
+            Float price = latestCloses.get(tickers.get(i));
+            if (price == null) {
+                throw new IllegalStateException("No latest close for " + tickers.get(i));
+            }
+            prices[i] = price;
+        }
+        int[] shares = ShareAllocator.allocate(weights, prices, initialCash);
+
+        // 실제 매수 금액 기준 비중 (마지막 원소는 현금 비중)
+        double invested = 0.0;
+        double[] finalWeights = new double[n];
+        List<Float> totalRatioFinal = new ArrayList<>(n + 1);
+        for (int i = 0; i < n; i++) {
+            double amount = (double) prices[i] * shares[i];
+            invested += amount;
+            finalWeights[i] = amount / initialCash;
+            totalRatioFinal.add((float) round(finalWeights[i], 5));
+        }
+        int cashHold = (int) Math.round(initialCash - invested);
+        totalRatioFinal.add((float) round((double) cashHold / initialCash, 5));
+
+        double finalReturns = 0.0;
+        for (int i = 0; i < n; i++) {
+            finalReturns += finalWeights[i] * annualReturns[i];
+        }
+
+        return PortfolioDto.CreatedResultFromFastApiDto.builder()
+                .int_asset_num(Arrays.stream(shares).boxed().toList())
+                .cash_hold(cashHold)
+                .total_radio_final(totalRatioFinal)
+                .weights(targetWeights)
+                .final_returns((float) round(finalReturns * 100, 2))
+                .final_vol((float) round(MeanVarianceOptimizer.volatility(finalWeights, cov) * 100, 2))
+                .build();
+    }
+
+    /**
+     * 모든 종목의 종가가 있는 날짜만 모아 {@code [날짜][종목]} 배열로 반환합니다.
+     */
+    private double[][] loadCloses(List<String> tickers) {
+        Map<String, Integer> indices = new HashMap<>();
+        for (int i = 0; i < tickers.size(); i++) {
+            indices.put(tickers.get(i), i);
+        }
+
+        Map<LocalDateTime, double[]> closesByDate = new TreeMap<>();
+        LocalDateTime from = LocalDate.now().minusDays(lookbackDays).atStartOfDay();
+        for (Object[] row : priceRepository.findClosesByTickersSince(tickers, from)) {
+            Double close = (Double) row[2];
+            if (close == null || close <= 0) {
+                continue;
+            }
+            double[] closes = closesByDate.computeIfAbsent((LocalDateTime) row[1], date -> {
+                double[] empty = new double[tickers.size()];
+                Arrays.fill(empty, Double.NaN);
+                return empty;
+            });
+            closes[indices.get((String) row[0])] = close;
+        }
+
+        List<double[]> complete = new ArrayList<>(closesByDate.size());
+        for (double[] closes : closesByDate.values()) {
+            if (Arrays.stream(closes).noneMatch(Double::isNaN)) {
+                complete.add(closes);
+            }
+        }
+        return complete.toArray(new double[0][]);
+    }
+
+    private double round(double value, int scale) {
+        double factor = Math.pow(10, scale);
+        return Math.round(value * factor) / factor;
+    }
+}
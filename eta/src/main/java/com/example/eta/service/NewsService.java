@@ -6,10 +6,13 @@ import com.example.eta.entity.News;
 import com.example.eta.entity.Ticker;
 import com.example.eta.repository.NewsRepository;
 import com.example.eta.repository.TickerRepository;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientException;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
@@ -34,8 +37,13 @@ public class NewsService {
         } else {
             Mono<ResponseEntity<NewsDto>> responseEntityMono = apiClientFastApi.getNewsFromFastApi(ticker);
 
-            // 비동기 작업을 동기로 처리
-            ResponseEntity<NewsDto> responseEntity = responseEntityMono.block();
+            // 비동기 작업을 동기로 처리, FastAPI 서버 호출이 불가능하면 이전 요약이라도 반환
+            ResponseEntity<NewsDto> responseEntity;
+            try {
+                responseEntity = responseEntityMono.block();
+            } catch (CallNotPermittedException | BulkheadFullException | WebClientException e) {
+                return optionalNews.map(news -> new NewsDto(news.getDate(), news.getSummary())).orElse(null);
+            }
 
             if (responseEntity != null && responseEntity.getStatusCode().is2xxSuccessful()) {
                 NewsDto newsDto = responseEntity.getBody();
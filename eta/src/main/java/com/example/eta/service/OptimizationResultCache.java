@@ -0,0 +1,64 @@
+package com.example.eta.service;
+
+import com.example.eta.dto.PortfolioDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 포트폴리오 최적화({@link PortfolioOptimizer}) 결과를 보관하고, 정수 주식 수로 나누기 전의 종목별 비중({@code weights})을 반환합니다.
+ *
+ * <p> 같은 섹터와 위험도를 고른 요청은 같은 종목 목록과 안전자산 비중으로 같은 최적화를 하므로,
+ * (종목 목록, 안전자산 비중, 거래일)이 같으면 하루 동안 결과를 재사용합니다. 이 비중은 투자 금액과 관계없으므로
+ * 정수 주식 수는 사용하는 쪽에서 각자의 투자 금액으로 계산해야 합니다.
+ * 같은 조합을 최적화 중인 요청이 이미 있으면 새로 요청하지 않고 그 결과를 함께 기다리며, 실패한 결과는 보관하지 않습니다.
+ *
+ * <p> FastAPI 서버의 결과에는 나누기 전 비중이 없고 {@code total_radio_final}은 최적화를 요청한 금액으로 주식 수를 나눈 뒤의 비중이므로,
+ * 투자 금액이 같은 요청만 재사용하고 금액이 다르면 새로 최적화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OptimizationResultCache {
+
+    private static final ZoneId MARKET_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final PortfolioOptimizer portfolioOptimizer;
+
+    private final Map<Key, Mono<Entry>> results = new ConcurrentHashMap<>();
+
+    /**
+     * {@code request}의 종목 순서대로 종목별 비중을 반환합니다. 종목 수보다 많은 원소(현금 비중)는 사용하지 않아야 합니다.
+     */
+    public Mono<List<Float>> getWeights(PortfolioDto.CreateRequestToFastApiDto request) {
+        LocalDate tradingDay = LocalDate.now(MARKET_ZONE);
+        results.keySet().removeIf(key -> !key.tradingDay().equals(tradingDay));
+
+        Key key = new Key(List.copyOf(request.getTickers()), request.getSafe_asset_ratio(), tradingDay);
+        return results.computeIfAbsent(key, k -> portfolioOptimizer.optimize(request)
+                        .map(result -> new Entry(request.getInitial_cash(), result))
+                        .doOnError(e -> results.remove(k))
+                        .cache())
+                .flatMap(entry -> {
+                    if (entry.result().getWeights() != null) {
+                        return Mono.just(entry.result().getWeights());
+                    }
+                    if (entry.initialCash() == request.getInitial_cash()) {
+                        return Mono.just(entry.result().getTotal_radio_final());
+                    }
+                    return portfolioOptimizer.optimize(request).map(PortfolioDto.CreatedResultFromFastApiDto::getTotal_radio_final);
+                });
+    }
+
+    private record Key(List<String> tickers, float safeAssetRatio, LocalDate tradingDay) {
+    }
+
+    // initialCash: 최적화를 요청한 투자 금액
+    private record Entry(int initialCash, PortfolioDto.CreatedResultFromFastApiDto result) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.eta.service;
+
+import com.example.eta.api.ApiClientFastApi;
+import com.example.eta.dto.PortfolioDto;
+import com.example.eta.enums.OptimizerType;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * 자동 포트폴리오의 종목별 비중을 계산합니다.
+ *
+ * <p> {@code portfolio.optimizer.type}이 {@code LOCAL}(기본값)이면 {@link LocalPortfolioOptimizer}로 직접 계산하고,
+ * {@code FASTAPI}이면 FastAPI 서버에 요청합니다. 직접 계산할 종가 이력이 부족하면 FastAPI 서버에 요청합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioOptimizer {
+
+    // FastAPI 서버와 같이 마지막 두 종목을 안전자산으로 취급
+    private static final int SAFE_ASSET_COUNT = 2;
+
+    private final ApiClientFastApi apiClientFastApi;
+    private final LocalPortfolioOptimizer localPortfolioOptimizer;
+
+    private Logger logger = LoggerFactory.getLogger(PortfolioOptimizer.class);
+
+    @Value("${portfolio.optimizer.type:LOCAL}")
+    private OptimizerType optimizerType;
+
+    public Mono<PortfolioDto.CreatedResultFromFastApiDto> optimize(PortfolioDto.CreateRequestToFastApiDto request) {
+        if (optimizerType == OptimizerType.FASTAPI) {
+            return requestFastApi(request);
+        }
+
+        // FastAPI 서버 요청용 종목 코드(005930.KS)에서 거래소 접미사를 뗌
+        List<String> tickers = request.getTickers().stream()
+                .map(ticker -> ticker.contains(".") ? ticker.substring(0, ticker.indexOf('.')) : ticker)
+                .toList();
+        return Mono.fromCallable(() -> localPortfolioOptimizer.optimize(tickers, SAFE_ASSET_COUNT, request.getSafe_asset_ratio(), request.getInitial_cash()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(IllegalStateException.class, e -> {
+                    logger.warn("Falling back to FastAPI optimization: " + e.getMessage());
+                    return requestFastApi(request);
+                });
+    }
+
+    private Mono<PortfolioDto.CreatedResultFromFastApiDto> requestFastApi(PortfolioDto.CreateRequestToFastApiDto request) {
+        return apiClientFastApi.getCreatedPortfolioApi(request).map(ResponseEntity::getBody);
+    }
+}
@@ -1,21 +1,28 @@
 package com.example.eta.service;
 
-import com.example.eta.api.ApiClientFastApi;
 import com.example.eta.dto.PortfolioDto;
 import com.example.eta.dto.TickerDto;
 import com.example.eta.entity.*;
+import com.example.eta.enums.AllocationStrategy;
 import com.example.eta.exception.portfolio.CannotSellStockException;
+import com.example.eta.exception.portfolio.InvalidTradeException;
 import com.example.eta.exception.portfolio.NotEnoughCashException;
 import com.example.eta.repository.*;
+import com.example.eta.util.ShareAllocator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -26,11 +33,18 @@ public class PortfolioService {
     private final SectorRepository sectorRepository;
     private final PortfolioSectorRepository portfolioSectorRepository;
     private final PortfolioTickerRepository portfolioTickerRepository;
+    private final TickerPortfolioIndex tickerPortfolioIndex;
     private final RebalancingRepository rebalancingRepository;
     private final RebalancingTickerRepository rebalancingTickerRepository;
     private final PortfolioRecordRepository portfolioRecordRepository;
-    private final PriceRepository priceRepository;
-    private final ApiClientFastApi apiClientFastApi;
+    private final PortfolioRecordWriter portfolioRecordWriter;
+    private final LatestPriceProvider latestPriceProvider;
+    private final CurrentPriceCache currentPriceCache;
+    private final OptimizationResultCache optimizationResultCache;
+    private final PortfolioOptimizer portfolioOptimizer;
+
+    @Value("${portfolio.auto.allocation-strategy:LARGEST_REMAINDER}")
+    private AllocationStrategy allocationStrategy;
 
     /**
      * 포트폴리오의 종목별 자산량을 계산하고, 포트폴리오의 총자산(현금+보유종목)을 반환합니다.
@@ -40,12 +54,13 @@ public class PortfolioService {
      * <p> {@code currentAmountForTicker}에 종목별 자산량이 담깁니다. 종목별 자산량이 필요하지 않은 경우 {@code null}을 전달합니다.
      */
     public float calculateAmount(Portfolio portfolio, boolean averagePriceUpdated, Map<PortfolioTicker, Float> currentAmountForTicker) {
+        Map<String, Float> latestCloses = averagePriceUpdated ? Map.of() : getLatestCloses(portfolio);
+
         float totalAmount = portfolio.getCurrentCash();
         for (PortfolioTicker portfolioTicker : portfolio.getPortfolioTickers()) {
             float number = portfolioTicker.getNumber();
             float price = averagePriceUpdated ? portfolioTicker.getAveragePrice() :
-                    priceRepository.findLatestPriceByTicker(portfolioTicker.getTicker().getTicker())
-                            .get().getClose().floatValue();
+                    Optional.ofNullable(latestCloses.get(portfolioTicker.getTicker().getTicker())).orElseThrow();
             totalAmount += price * number;
             if (currentAmountForTicker != null)
                 currentAmountForTicker.put(portfolioTicker, price * number);
@@ -53,6 +68,15 @@ public class PortfolioService {
         return totalAmount;
     }
 
+    /**
+     * 포트폴리오 보유 종목들의 가장 최근 종가를 한 번에 조회합니다.
+     */
+    public Map<String, Float> getLatestCloses(Portfolio portfolio) {
+        return latestPriceProvider.getLatestCloses(portfolio.getPortfolioTickers().stream()
+                .map(portfolioTicker -> portfolioTicker.getTicker().getTicker())
+                .toList());
+    }
+
     /**
      * 포트폴리오의 현재 비중을 업데이트힙니다. 종목의 종가를 기준으로 계산합니다.
      *
@@ -73,8 +97,8 @@ public class PortfolioService {
             if (setInitProportion) {
                 portfolioTicker.setInitProportion(currentProportion);
             }
-            portfolioTickerRepository.save(portfolioTicker);
         }
+        portfolioTickerRepository.saveAll(currentAmountForTicker.keySet());
     }
 
     /**
@@ -91,8 +115,8 @@ public class PortfolioService {
             float currentProportion = currentAmountForTicker.get(portfolioTicker).floatValue() / totalAmount;
             portfolioTicker.setInitProportion(currentProportion);
             portfolioTicker.setCurrentProportion(currentProportion);
-            portfolioTickerRepository.save(portfolioTicker);
         }
+        portfolioTickerRepository.saveAll(currentAmountForTicker.keySet());
     }
 
 
@@ -128,19 +152,49 @@ public class PortfolioService {
     }
 
     @Transactional
-    public void initializeAutoPortfolio(Portfolio portfolio, PortfolioDto.CreateRequestDto createRequestDto) throws Exception {
-        // 섹터별 상위 10개 종목 선택
-        List<Ticker> tickers = tickerRepository.findTopTickersBySector(createRequestDto.getSector().get(0), 10, createRequestDto.getCountry());
+    public void initializeAutoPortfolio(int pfId, PortfolioDto.CreateRequestDto createRequestDto) throws Exception {
+        initializeAutoPortfolio(portfolioRepository.findById(pfId).get(), createRequestDto);
+    }
 
-        // 안전자산 종목 추가
+    /**
+     * FastAPI 서버로부터 포트폴리오 결과를 받아 포트폴리오를 초기화합니다.
+     *
+     * <p> 섹터 상위 종목과 안전자산 종목은 현재 트랜잭션 안에서 조회한 뒤,
+     * 포트폴리오 최적화(/makePortfolio/)와 현재가 조회를 동시에 요청하고 둘 다 끝날 때 한 번만 기다립니다.
+     */
+    @Transactional
+    public void initializeAutoPortfolio(Portfolio portfolio, PortfolioDto.CreateRequestDto createRequestDto) throws Exception {
+        // 섹터별 상위 10개 종목과 안전자산 종목 선택
+        List<Ticker> tickers = new ArrayList<>(tickerRepository.findTopTickersBySector(createRequestDto.getSector().get(0), 10, createRequestDto.getCountry()));
         tickers.addAll(tickerRepository.findSafeAssetTickers(createRequestDto.getCountry()));
 
         // 최초 리밸런싱 알림 생성
-        List<Integer> stockNumPerTicker = getCreatedResultFromFastAPI(createRequestDto, tickers);
-        setInitAutoPortfolio(portfolio, tickers, stockNumPerTicker);
+        PortfolioDto.CreateRequestToFastApiDto requestToFastApi = toFastApiRequest(createRequestDto, tickers);
+        Mono<List<TickerDto.TickerPrice>> currentPrices = currentPriceCache.getCurrentPrices(tickers.stream().map(Ticker::getTicker).toList());
+        List<TickerDto.TickerPrice> tickerPrices;
+        List<Integer> stockNumPerTicker;
+        if (allocationStrategy == AllocationStrategy.LEGACY) {
+            Tuple2<PortfolioDto.CreatedResultFromFastApiDto, List<TickerDto.TickerPrice>> results = Mono.zip(
+                            portfolioOptimizer.optimize(requestToFastApi), currentPrices)
+                    .block();
+            tickerPrices = results.getT2();
+            stockNumPerTicker = results.getT1().getInt_asset_num();
+        } else {
+            // 비중은 같은 날 같은 종목, 같은 안전자산 비중이면 재사용하고, 주식 수는 유저의 투자 금액으로 직접 계산
+            Tuple2<List<Float>, List<TickerDto.TickerPrice>> results = Mono.zip(
+                            optimizationResultCache.getWeights(requestToFastApi), currentPrices)
+                    .block();
+            tickerPrices = results.getT2();
+            stockNumPerTicker = allocateShares(results.getT1(), tickerPrices, createRequestDto.getAsset());
+        }
+        setInitAutoPortfolio(portfolio, tickers, stockNumPerTicker, tickerPrices);
+    }
+
+    public PortfolioDto.CreatedResultFromFastApiDto getCreatedResultFromFastAPI(PortfolioDto.CreateRequestDto createRequestDto, List<Ticker> tickers) throws Exception {
+        return portfolioOptimizer.optimize(toFastApiRequest(createRequestDto, tickers)).block();
     }
 
-    public List<Integer> getCreatedResultFromFastAPI(PortfolioDto.CreateRequestDto createRequestDto, List<Ticker> tickers) throws Exception {
+    private PortfolioDto.CreateRequestToFastApiDto toFastApiRequest(PortfolioDto.CreateRequestDto createRequestDto, List<Ticker> tickers) {
         List<String> postfixedTickers = new ArrayList<>();
         for (Ticker ticker : tickers) {
             if (ticker.getExchange().equals("KOSPI")) {
@@ -150,39 +204,53 @@ public class PortfolioService {
             }
         }
 
-        PortfolioDto.CreatedResultFromFastApiDto createdResultFromFastApiDto = apiClientFastApi.getCreatedPortfolioApi(PortfolioDto.CreateRequestToFastApiDto.builder()
+        return PortfolioDto.CreateRequestToFastApiDto.builder()
                 .tickers(postfixedTickers)
                 .safe_asset_ratio(
                         createRequestDto.getRiskValue() == 1 ? 0.3f :
                                 createRequestDto.getRiskValue() == 2 ? 0.2f : 0.1f
                 )
                 .initial_cash((int) createRequestDto.getAsset())
-                .build()).block().getBody();
-        List<Integer> stockNumPerTicker = createdResultFromFastApiDto.getInt_asset_num();
+                .build();
+    }
+
+    public List<TickerDto.TickerPrice> getCurrentTickerPrices(List<Ticker> tickers) {
+        return currentPriceCache.getCurrentPrices(tickers.stream().map(Ticker::getTicker).toList()).block();
+    }
 
-        return stockNumPerTicker;
+    /**
+     * {@link OptimizationResultCache}의 종목별 비중과 현재가로, 투자 금액에 대한 정수 주식 수를 계산합니다.
+     *
+     * <p> {@code totalRatio}에 현금 비중이 있을 수 있으므로 종목 수만큼만 사용합니다.
+     */
+    private List<Integer> allocateShares(List<Float> totalRatio, List<TickerDto.TickerPrice> tickerPrices, float asset) {
+        float[] weights = new float[tickerPrices.size()];
+        float[] prices = new float[tickerPrices.size()];
+        for (int i = 0; i < tickerPrices.size(); i++) {
+            weights[i] = totalRatio.get(i);
+            prices[i] = tickerPrices.get(i).getCurrent_price();
+        }
+        return Arrays.stream(ShareAllocator.allocate(weights, prices, asset)).boxed().toList();
     }
 
-    public void setInitAutoPortfolio(Portfolio portfolio, List<Ticker> tickers, List<Integer> stockNumPerTicker) {
+    public void setInitAutoPortfolio(Portfolio portfolio, List<Ticker> tickers, List<Integer> stockNumPerTicker, List<TickerDto.TickerPrice> tickerPrices) {
         Rebalancing rebalancing = Rebalancing.builder()
                 .portfolio(portfolio)
                 .createdDate(LocalDateTime.now())
                 .build();
         rebalancingRepository.save(rebalancing);
 
-        List<TickerDto.TickerPrice> tickerPrices = apiClientFastApi.getCurrentTickerPrice(tickers.stream().map(Ticker::getTicker).toList()).block().getBody().getPrices();
-
+        List<RebalancingTicker> rebalancingTickers = new ArrayList<>(tickers.size());
+        List<PortfolioTicker> portfolioTickers = new ArrayList<>(tickers.size());
         for (int i = 0; i < tickers.size(); i++) {
-            RebalancingTicker rebalancingTicker = rebalancingTickerRepository.save(RebalancingTicker.builder()
+            rebalancingTickers.add(RebalancingTicker.builder()
                     .rebalancing(rebalancing)
                     .ticker(tickers.get(i))
                     .isBuy(true)
                     .number(stockNumPerTicker.get(i))
                     .price(tickerPrices.get(i).getCurrent_price())
                     .build());
-            rebalancing.getRebalancingTickers().add(rebalancingTicker);
-
-            PortfolioTicker portfolioTicker = portfolioTickerRepository.save(PortfolioTicker.builder()
+            portfolioTickers.add(PortfolioTicker.builder()
                     .portfolio(portfolio)
                     .ticker(tickers.get(i))
                     .number(0)
@@ -190,7 +258,11 @@ public class PortfolioService {
                     .initProportion(0.0f)
                     .currentProportion(0.0f)
                     .build());
-            portfolio.getPortfolioTickers().add(portfolioTicker);
+        }
+        rebalancing.getRebalancingTickers().addAll(rebalancingTickerRepository.saveAll(rebalancingTickers));
+        portfolio.getPortfolioTickers().addAll(portfolioTickerRepository.saveAll(portfolioTickers));
+        for (Ticker ticker : tickers) {
+            tickerPortfolioIndex.add(ticker.getTicker(), portfolio.getPfId());
         }
 
         portfolioRepository.save(portfolio);
@@ -202,6 +274,7 @@ public class PortfolioService {
 
     public void deletePortfolio(Integer pfId) {
         portfolioRepository.deleteById(pfId);
+        tickerPortfolioIndex.removePortfolio(pfId);
     }
 
     public PortfolioDto.PerformanceResponseDto getPerformanceData(Integer pfId) {
@@ -253,6 +326,7 @@ public class PortfolioService {
 
 
         // 주식 추가
+        List<PortfolioRecord> portfolioRecords = new ArrayList<>(request.getStocks().size());
         for (PortfolioDto.StockDetailDto stock : request.getStocks()) {
             Ticker ticker = tickerRepository.findByTicker(stock.getTicker());
             PortfolioTicker portfolioTicker = portfolioTickerRepository.save(PortfolioTicker.builder()
@@ -262,9 +336,10 @@ public class PortfolioService {
                     .averagePrice(stock.getPrice())
                     .build());
             portfolio.getPortfolioTickers().add(portfolioTicker);
+            tickerPortfolioIndex.add(ticker.getTicker(), portfolio.getPfId());
 
             //변동 기록 저장
-            portfolioRecordRepository.save(PortfolioRecord.builder()
+            portfolioRecords.add(PortfolioRecord.builder()
                     .portfolio(portfolio)
                     .ticker(ticker)
                     .number(stock.getQuantity())
@@ -273,6 +348,7 @@ public class PortfolioService {
                     .recordDate(LocalDateTime.now())
                     .build());
         }
+        portfolioRecordWriter.saveAll(portfolioRecords);
 
         // 초기 비중, 현재 비중 업데이트
         setPortfolioInitProportion(portfolio);
@@ -297,6 +373,7 @@ public class PortfolioService {
                 pt.updateNumber(existingQuantity + buyRequestDto.getQuantity());
                 pt.setAveragePrice(((pt.getAveragePrice() * existingQuantity) + (buyRequestDto.getPrice() * buyRequestDto.getQuantity())) / (existingQuantity + buyRequestDto.getQuantity()));
                 portfolioTickerRepository.save(pt);
+                tickerPortfolioIndex.markChanged(pfId);
             },
             () -> {
                 PortfolioTicker portfolioTicker = portfolioTickerRepository.save(PortfolioTicker.builder()
@@ -306,6 +383,7 @@ public class PortfolioService {
                         .number(buyRequestDto.getQuantity())
                         .build());
                 portfolio.getPortfolioTickers().add(portfolioTicker);
+                tickerPortfolioIndex.add(ticker.getTicker(), pfId);
             }
         );
 
@@ -358,8 +436,10 @@ public class PortfolioService {
         if (newQuantity == 0) {
             portfolioTickerRepository.delete(portfolioTicker);
             portfolio.getPortfolioTickers().remove(portfolioTicker);
+            tickerPortfolioIndex.remove(ticker.getTicker(), pfId);
         } else {
             portfolioTickerRepository.save(portfolioTicker);
+            tickerPortfolioIndex.markChanged(pfId);
         }
 
         // 포트폴리오 초기 자산, 현금 업데이트
@@ -373,6 +453,123 @@ public class PortfolioService {
         portfolioRepository.save(portfolio);
     }
 
+    /**
+     * 여러 종목의 매수/매도를 요청 순서대로 한 트랜잭션에서 반영합니다.
+     *
+     * <p> 먼저 모든 거래의 현금과 보유 수량을 순서대로 검사하고, 하나라도 불가능하면 아무것도 반영하지 않습니다.
+     * 변동 기록은 한 번에 저장하며, 초기 자산과 비중은 모든 거래를 반영한 뒤 한 번만 계산합니다.
+     *
+     * @throws InvalidTradeException 거래 목록이 비어 있거나, 없는 종목이거나, 수량, 가격이 0 이하이거나, 매수/매도 구분이 없는 경우
+     * @throws NotEnoughCashException 매수 시점의 현금이 부족한 경우
+     * @throws CannotSellStockException 매도 시점의 보유 수량이 부족한 경우
+     */
+    @Transactional
+    public void tradeStocks(Integer pfId, List<PortfolioDto.StockDetailDto> trades) {
+        if (trades == null || trades.isEmpty()) {
+            throw new InvalidTradeException();
+        }
+        Portfolio portfolio = portfolioRepository.findById(pfId).get();
+        Map<String, Ticker> tickers = new HashMap<>();
+        for (Ticker ticker : tickerRepository.findAllById(trades.stream().map(PortfolioDto.StockDetailDto::getTicker).distinct().toList())) {
+            tickers.put(ticker.getTicker(), ticker);
+        }
+        Map<String, PortfolioTicker> holdings = new HashMap<>();
+        for (PortfolioTicker portfolioTicker : portfolio.getPortfolioTickers()) {
+            holdings.put(portfolioTicker.getTicker().getTicker(), portfolioTicker);
+        }
+
+        // 거래 가능 여부 확인
+        float cash = portfolio.getCurrentCash();
+        Map<String, Integer> quantities = new HashMap<>();
+        holdings.forEach((ticker, portfolioTicker) -> quantities.put(ticker, portfolioTicker.getNumber()));
+        for (PortfolioDto.StockDetailDto trade : trades) {
+            if (!tickers.containsKey(trade.getTicker()) || trade.getQuantity() <= 0 || trade.getPrice() <= 0 || trade.getIsBuy() == null) {
+                throw new InvalidTradeException();
+            }
+            int quantity = quantities.getOrDefault(trade.getTicker(), 0);
+            if (trade.getIsBuy()) {
+                cash -= trade.getPrice() * trade.getQuantity();
+                if (cash < 0) {
+                    throw new NotEnoughCashException();
+                }
+                quantities.put(trade.getTicker(), quantity + trade.getQuantity());
+            } else {
+                if (quantity < trade.getQuantity()) {
+                    throw new CannotSellStockException();
+                }
+                cash += trade.getPrice() * trade.getQuantity();
+                quantities.put(trade.getTicker(), quantity - trade.getQuantity());
+            }
+        }
+
+        // 보유 종목, 변동 기록 반영
+        List<PortfolioTicker> newPortfolioTickers = new ArrayList<>();
+        List<PortfolioRecord> portfolioRecords = new ArrayList<>(trades.size());
+        for (PortfolioDto.StockDetailDto trade : trades) {
+            Ticker ticker = tickers.get(trade.getTicker());
+            boolean isBuy = trade.getIsBuy();
+            PortfolioTicker portfolioTicker = holdings.get(trade.getTicker());
+            if (portfolioTicker == null) {
+                portfolioTicker = PortfolioTicker.builder()
+                        .ticker(ticker)
+                        .portfolio(portfolio)
+                        .averagePrice(trade.getPrice())
+                        .number(trade.getQuantity())
+                        .initProportion(0.0f)
+                        .currentProportion(0.0f)
+                        .build();
+                holdings.put(trade.getTicker(), portfolioTicker);
+                newPortfolioTickers.add(portfolioTicker);
+            } else if (isBuy) {
+                int existingQuantity = portfolioTicker.getNumber();
+                portfolioTicker.setAveragePrice(((portfolioTicker.getAveragePrice() * existingQuantity) + (trade.getPrice() * trade.getQuantity())) / (existingQuantity + trade.getQuantity()));
+                portfolioTicker.updateNumber(existingQuantity + trade.getQuantity());
+            } else {
+                portfolioTicker.updateNumber(portfolioTicker.getNumber() - trade.getQuantity());
+            }
+
+            portfolioRecords.add(PortfolioRecord.builder()
+                    .portfolio(portfolio)
+                    .ticker(ticker)
+                    .number(trade.getQuantity())
+                    .price(trade.getPrice())
+                    .isBuy(isBuy)
+                    .recordDate(LocalDateTime.now())
+                    .build());
+        }
+
+        // 새로 산 뒤 모두 판 종목은 저장하지 않고, 기존 종목 중 모두 판 종목은 삭제
+        List<PortfolioTicker> soldOutPortfolioTickers = new ArrayList<>();
+        for (PortfolioTicker portfolioTicker : holdings.values()) {
+            if (portfolioTicker.getNumber() == 0) {
+                if (!newPortfolioTickers.remove(portfolioTicker)) {
+                    soldOutPortfolioTickers.add(portfolioTicker);
+                }
+            }
+        }
+        portfolio.getPortfolioTickers().addAll(portfolioTickerRepository.saveAll(newPortfolioTickers));
+        portfolioTickerRepository.deleteAll(soldOutPortfolioTickers);
+        portfolio.getPortfolioTickers().removeAll(soldOutPortfolioTickers);
+        portfolioRecordWriter.saveAll(portfolioRecords);
+
+        for (PortfolioTicker portfolioTicker : newPortfolioTickers) {
+            tickerPortfolioIndex.add(portfolioTicker.getTicker().getTicker(), pfId);
+        }
+        for (PortfolioTicker portfolioTicker : soldOutPortfolioTickers) {
+            tickerPortfolioIndex.remove(portfolioTicker.getTicker().getTicker(), pfId);
+        }
+        tickerPortfolioIndex.markChanged(pfId);
+
+        // 포트폴리오 초기 자산, 현금 업데이트
+        portfolio.setInitAsset(calculateAmount(portfolio, true, null));
+        portfolio.updateCurrentCash(cash);
+
+        // 초기, 현재 비중 업데이트
+        updatePortfolioProportion(portfolio, true);
+
+        portfolioRepository.save(portfolio);
+    }
+
     @Transactional
     public void depositCash(Integer pfId, float cash) {
         Portfolio portfolio = portfolioRepository.findById(pfId).get();
@@ -20,7 +20,9 @@ public class RebalancingService {
     private final RebalancingRepository rebalancingRepository;
     private final PortfolioRepository portfolioRepository;
     private final PortfolioTickerRepository portfolioTickerRepository;
+    private final TickerPortfolioIndex tickerPortfolioIndex;
     private final PortfolioRecordRepository portfolioRecordRepository;
+    private final PortfolioRecordWriter portfolioRecordWriter;
     private final PortfolioScheduler portfolioScheduler;
 
     public boolean existsRebalancingByPortfolioId(Integer pfId) {
@@ -64,6 +66,7 @@ public class RebalancingService {
         Optional<Portfolio> optionalPortfolio = portfolioRepository.findById(pfId);
         Portfolio portfolio = optionalPortfolio.get();
 
+        List<PortfolioRecord> portfolioRecords = new ArrayList<>(rebalancingApplyListDto.getRnList().size());
         for (RebalancingDto.RebalancingApplyInfoDto detail : rebalancingApplyListDto.getRnList()) {
             Ticker ticker = tickerRepository.findByTicker(detail.getTicker());
             if (ticker != null) {
@@ -80,6 +83,7 @@ public class RebalancingService {
                             .currentProportion(0.f)
                             .build());
                     portfolio.getPortfolioTickers().add(portfolioTicker);
+                    tickerPortfolioIndex.add(ticker.getTicker(), pfId);
                 } else {
                     portfolioTicker = optionalPortfolioTicker.get();
                 }
@@ -104,12 +108,13 @@ public class RebalancingService {
                 if (portfolioTicker.getNumber() == 0) {
                     portfolioTickerRepository.delete(portfolioTicker);
                     portfolio.getPortfolioTickers().remove(portfolioTicker);
+                    tickerPortfolioIndex.remove(ticker.getTicker(), pfId);
                 } else {
                     portfolioTickerRepository.save(portfolioTicker);
                 }
 
                 // 매수/매도 기록을 PortfolioRecord에 저장
-                portfolioRecordRepository.save(PortfolioRecord.builder()
+                portfolioRecords.add(PortfolioRecord.builder()
                         .portfolio(portfolio)
                         .ticker(ticker)
                         .number(detail.getQuantity())
@@ -119,6 +124,7 @@ public class RebalancingService {
                         .build());
             }
         }
+        portfolioRecordWriter.saveAll(portfolioRecords);
 
         // 수동 포트폴리오일 경우 초기 비중을 현재 비중으로 업데이트함
         if (!portfolio.getIsAuto()) {
@@ -131,6 +137,8 @@ public class RebalancingService {
             portfolio.setCreatedDate(LocalDateTime.now());
         }
 
+        tickerPortfolioIndex.markChanged(pfId);
+
         // 리밸런싱 알림 삭제
         rebalancingRepository.delete(rebalancingRepository.findById(rnId).get());
 
@@ -0,0 +1,247 @@
+package com.example.eta.service;
+
+import com.example.eta.repository.PriceRepository;
+import com.example.eta.util.MeanVarianceOptimizer;
+import com.example.eta.util.RollingCovariance;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 모든 종목의 최근 {@code portfolio.optimizer.lookback-days}일 동안의 일간 로그 수익률 평균과 공분산을 메모리에 유지합니다.
+ *
+ * <p> {@code price} 테이블에 새 날짜의 종가가 적재되면 그날의 수익률을 {@link RollingCovariance}에 더하고,
+ * 기간을 벗어난 날의 수익률을 빼서 갱신합니다. 더하고 빼는 과정에서 쌓이는 오차를 없애기 위해,
+ * {@code statistics.return.rebuild-interval}번 갱신할 때마다 보관 중인 수익률로 다시 계산합니다.
+ *
+ * <p> 종가는 종목별로 나누어 저장되므로, 최신 날짜는 그날의 종가 수가 직전 확인 때와 같아진 뒤에 반영합니다.
+ * 또한 종가 적재 시 과거 수정 종가도 다시 저장되므로(액면분할 등), 보관 중인 기간의 종가 수와 합을 날짜별로 기록해 두고
+ * DB의 값과 다르면 기간 전체를 다시 읽습니다. 처음과 새 종목이 생긴 경우에도 기간 전체를 다시 읽습니다.
+ *
+ * <p> 종가가 없는 날은 수익률을 0으로 두며, {@link #getStatistics(List)}는 기간 내 모든 날에 종가가 있는 종목들만 반환합니다.
+ * 조회는 요청한 종목 수 k에 대해 O(k²)입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReturnStatisticsStore {
+
+    private static final int MIN_OBSERVATIONS = 20;
+
+    private final PriceRepository priceRepository;
+
+    private Logger logger = LoggerFactory.getLogger(ReturnStatisticsStore.class);
+
+    @Value("${portfolio.optimizer.lookback-days:252}")
+    private int lookbackDays;
+
+    @Value("${statistics.return.rebuild-interval:60}")
+    private int rebuildInterval;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> indices = new HashMap<>();
+    private final ArrayDeque<Day> days = new ArrayDeque<>();
+    private RollingCovariance statistics = new RollingCovariance(0);
+    private double[] lastCloses = new double[0];
+    private LocalDateTime lastDate;
+    private int updatesSinceRebuild;
+
+    // 직전 확인 때의 price 최신 날짜와 그 날짜의 종가 수
+    private LocalDateTime observedLatestDate;
+    private long observedLatestCount;
+
+    /**
+     * 종목 순서대로 연간 수익률과 연간 공분산 행렬을 반환합니다.
+     * 모르는 종목이 있거나, 기간 내 종가가 없는 날이 있는 종목이 있거나, 관측 수가 부족하면 빈 값을 반환합니다.
+     */
+    public Optional<Statistics> getStatistics(List<String> tickers) {
+        lock.readLock().lock();
+        try {
+            int[] selected = new int[tickers.size()];
+            for (int i = 0; i < selected.length; i++) {
+                Integer index = indices.get(tickers.get(i));
+                if (index == null || statistics.getObservations(index) != statistics.getCount()) {
+                    return Optional.empty();
+                }
+                selected[i] = index;
+            }
+            if (statistics.getCount() < MIN_OBSERVATIONS) {
+                return Optional.empty();
+            }
+
+            double[] annualReturns = new double[selected.length];
+            for (int i = 0; i < selected.length; i++) {
+                annualReturns[i] = statistics.getMean(selected[i]) * MeanVarianceOptimizer.TRADING_DAYS;
+            }
+            double[][] annualCovariance = statistics.getCovariance(selected);
+            for (double[] row : annualCovariance) {
+                for (int j = 0; j < row.length; j++) {
+                    row[j] *= MeanVarianceOptimizer.TRADING_DAYS;
+                }
+            }
+            return Optional.of(new Statistics(annualReturns, annualCovariance, statistics.getCount()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${statistics.return.refresh-interval:600000}")
+    public synchronized void refresh() {
+        Optional<LocalDateTime> latestDate = priceRepository.findLatestDate();
+        if (latestDate.isEmpty()) {
+            return;
+        }
+
+        // 최신 날짜의 종가 수가 직전 확인 때와 같지 않으면 아직 저장 중인 것으로 보고 그 전날까지만 반영
+        long latestCount = priceRepository.countByDate(latestDate.get());
+        boolean latestStable = latestDate.get().equals(observedLatestDate) && latestCount == observedLatestCount;
+        observedLatestDate = latestDate.get();
+        observedLatestCount = latestCount;
+        LocalDateTime until = latestStable ? latestDate.get() : latestDate.get().minusDays(1);
+
+        boolean historyChanged = lastDate != null && !matchesStoredCloses();
+        if (!historyChanged && lastDate != null && !until.isAfter(lastDate)) {
+            return;
+        }
+
+        // 처음, 과거 종가가 바뀐 경우, 새 종목이 생긴 경우에는 기간 첫날의 수익률을 계산할 수 있도록 하루 전부터 기간 전체를 읽음
+        LocalDateTime periodStart = until.minusDays(lookbackDays + 1L);
+        boolean reload = lastDate == null || historyChanged;
+        SortedMap<LocalDateTime, Map<String, Double>> closesByDate = loadCloses(reload ? periodStart : lastDate, until);
+        if (!reload && closesByDate.values().stream()
+                .flatMap(closes -> closes.keySet().stream())
+                .anyMatch(ticker -> !indices.containsKey(ticker))) {
+            reload = true;
+            closesByDate = loadCloses(periodStart, until);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (reload) {
+                reload(closesByDate);
+                lastDate = closesByDate.isEmpty() ? null : closesByDate.lastKey();
+            } else if (!closesByDate.isEmpty()) {
+                closesByDate.forEach(this::apply);
+                if (updatesSinceRebuild >= rebuildInterval) {
+                    rebuild();
+                }
+                lastDate = closesByDate.lastKey();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Updated return statistics of " + indices.size() + " tickers over " + statistics.getCount() + " days (" + lastDate
+                + (historyChanged ? ", reloaded changed history" : "") + ")");
+    }
+
+    /**
+     * 보관 중인 기간의 날짜별 종가 수와 합이 DB와 같은지 확인합니다.
+     */
+    private boolean matchesStoredCloses() {
+        if (days.isEmpty()) {
+            return true;
+        }
+        long count = 0;
+        double sum = 0.0;
+        for (Day day : days) {
+            count += day.closeCount();
+            sum += day.closeSum();
+        }
+
+        List<Object[]> rows = priceRepository.findCloseChecksum(days.peekFirst().date(), lastDate);
+        Object[] row = rows.isEmpty() ? new Object[]{0L, null} : rows.get(0);
+        long storedCount = row[0] != null ? ((Number) row[0]).longValue() : 0;
+        double storedSum = row[1] != null ? ((Number) row[1]).doubleValue() : 0.0;
+        return count == storedCount && Math.abs(sum - storedSum) <= 1e-9 * Math.max(1.0, Math.abs(sum));
+    }
+
+    /**
+     * {@code after} 이후(포함하지 않음) {@code until}까지(포함)의 종가를 날짜별로 반환합니다.
+     */
+    private SortedMap<LocalDateTime, Map<String, Double>> loadCloses(LocalDateTime after, LocalDateTime until) {
+        SortedMap<LocalDateTime, Map<String, Double>> closesByDate = new TreeMap<>();
+        for (Object[] row : priceRepository.findAllClosesAfter(after)) {
+            LocalDateTime date = (LocalDateTime) row[1];
+            if (row[2] != null && (Double) row[2] > 0 && !date.isAfter(until)) {
+                closesByDate.computeIfAbsent(date, key -> new HashMap<>()).put((String) row[0], (Double) row[2]);
+            }
+        }
+        return closesByDate;
+    }
+
+    private void reload(SortedMap<LocalDateTime, Map<String, Double>> closesByDate) {
+        indices.clear();
+        closesByDate.values().forEach(closes -> closes.keySet().forEach(ticker -> indices.putIfAbsent(ticker, indices.size())));
+        days.clear();
+        statistics = new RollingCovariance(indices.size());
+        lastCloses = new double[indices.size()];
+
+        // 첫날은 전날 종가로만 사용
+        boolean first = true;
+        for (Map.Entry<LocalDateTime, Map<String, Double>> entry : closesByDate.entrySet()) {
+            if (first) {
+                entry.getValue().forEach((ticker, close) -> lastCloses[indices.get(ticker)] = close);
+                first = false;
+            } else {
+                apply(entry.getKey(), entry.getValue());
+            }
+        }
+        updatesSinceRebuild = 0;
+    }
+
+    private void apply(LocalDateTime date, Map<String, Double> closes) {
+        int n = indices.size();
+        double[] returns = new double[n];
+        boolean[] observed = new boolean[n];
+        double closeSum = 0.0;
+        for (Map.Entry<String, Double> entry : closes.entrySet()) {
+            closeSum += entry.getValue();
+            int i = indices.get(entry.getKey());
+            if (lastCloses[i] > 0) {
+                returns[i] = Math.log(entry.getValue() / lastCloses[i]);
+                observed[i] = true;
+            }
+            lastCloses[i] = entry.getValue();
+        }
+
+        Day day = new Day(date, returns, observed, closes.size(), closeSum);
+        days.addLast(day);
+        statistics.add(returns, observed);
+
+        LocalDateTime cutoff = date.minusDays(lookbackDays);
+        while (!days.isEmpty() && days.peekFirst().date().isBefore(cutoff)) {
+            Day expired = days.pollFirst();
+            statistics.remove(expired.returns(), expired.observed());
+        }
+        updatesSinceRebuild++;
+    }
+
+    private void rebuild() {
+        statistics.clear();
+        for (Day day : days) {
+            statistics.add(day.returns(), day.observed());
+        }
+        updatesSinceRebuild = 0;
+    }
+
+    /**
+     * @param annualReturns    종목별 연간 로그 수익률
+     * @param annualCovariance 연간 공분산 행렬
+     * @param observations     계산에 사용한 일간 수익률 수
+     */
+    public record Statistics(double[] annualReturns, double[][] annualCovariance, int observations) {
+    }
+
+    // closeCount, closeSum: 그날 읽은 종가 수와 합
+    private record Day(LocalDateTime date, double[] returns, boolean[] observed, int closeCount, double closeSum) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.eta.service;
+
+import com.example.eta.enums.ValueFactor;
+import com.example.eta.repository.ValueLatestRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 종목별 최신 팩터 값({@code value_latest})을 업종별, 팩터별로 정렬한 {@code float[]}로 메모리에 보관하고 업종 내 순위를 반환합니다.
+ *
+ * <p> 순위는 값이 큰 순서이며 {@code 1 + (값이 더 큰 종목 수)}로, 이분 탐색으로 O(log n)에 구합니다. 값이 없는 경우는 -99로 취급합니다.
+ * {@code value_latest}의 최신 날짜가 바뀐 경우에만 새 인덱스를 만들어 참조를 교체하므로, 조회하는 쪽은 이전 인덱스 또는 새 인덱스 중 하나를 온전히 보게 됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SectorRankIndex {
+
+    public static final float MISSING = -99;
+
+    // ValueLatestRepository#findAllFactorsWithTicker 결과의 업종명, 첫 팩터 위치
+    private static final int SECTOR_COLUMN = 3;
+    private static final int FACTOR_OFFSET = 4;
+
+    private final ValueLatestRepository valueLatestRepository;
+
+    private Logger logger = LoggerFactory.getLogger(SectorRankIndex.class);
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * {@code sectorName} 업종에서 {@code factor} 값이 {@code value}인 종목의 순위를 반환합니다. 업종을 모르면 -1을 반환합니다.
+     */
+    public int getRank(String sectorName, ValueFactor factor, float value) {
+        if (snapshot == Snapshot.EMPTY) {
+            refresh();
+        }
+        float[][] sorted = snapshot.sectors().get(sectorName);
+        if (sorted == null) {
+            return -1;
+        }
+        float[] values = sorted[factor.ordinal()];
+        return 1 + values.length - upperBound(values, value);
+    }
+
+    /**
+     * {@code sectorName} 업종의 종목 수를 반환합니다.
+     */
+    public int getTotal(String sectorName) {
+        if (snapshot == Snapshot.EMPTY) {
+            refresh();
+        }
+        float[][] sorted = snapshot.sectors().get(sectorName);
+        return sorted == null ? 0 : sorted[0].length;
+    }
+
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${value.rank-index.refresh-interval:600000}")
+    public synchronized void refresh() {
+        Optional<LocalDateTime> latestScoreDate = valueLatestRepository.findLatestScoreDate();
+        if (latestScoreDate.isEmpty() || latestScoreDate.get().equals(snapshot.scoreDate())) {
+            return;
+        }
+
+        int factorCount = ValueFactor.values().length;
+        Map<String, List<float[]>> rowsBySector = new HashMap<>();
+        for (Object[] row : valueLatestRepository.findAllFactorsWithTicker()) {
+            float[] factors = new float[factorCount];
+            for (int f = 0; f < factorCount; f++) {
+                factors[f] = orMissing((Float) row[FACTOR_OFFSET + f]);
+            }
+            rowsBySector.computeIfAbsent(String.valueOf(row[SECTOR_COLUMN]), sector -> new ArrayList<>()).add(factors);
+        }
+
+        Map<String, float[][]> sectors = new HashMap<>();
+        rowsBySector.forEach((sectorName, rows) -> {
+            float[][] sorted = new float[factorCount][rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                for (int f = 0; f < factorCount; f++) {
+                    sorted[f][i] = rows.get(i)[f];
+                }
+            }
+            for (float[] values : sorted) {
+                Arrays.sort(values);
+            }
+            sectors.put(sectorName, sorted);
+        });
+        snapshot = new Snapshot(latestScoreDate.get(), Collections.unmodifiableMap(sectors));
+        logger.info("Built factor rank index of " + sectors.size() + " sectors (" + latestScoreDate.get() + ")");
+    }
+
+    public static float orMissing(Float value) {
+        return value == null ? MISSING : value;
+    }
+
+    /**
+     * 오름차순으로 정렬된 {@code values}에서 {@code value}보다 큰 첫 원소의 위치를 반환합니다.
+     */
+    static int upperBound(float[] values, float value) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private record Snapshot(LocalDateTime scoreDate, Map<String, float[][]> sectors) {
+        static final Snapshot EMPTY = new Snapshot(null, Map.of());
+    }
+}
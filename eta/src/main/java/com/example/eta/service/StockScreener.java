@@ -0,0 +1,206 @@
+package com.example.eta.service;
+
+import com.example.eta.dto.TickerDto;
+import com.example.eta.enums.ValueFactor;
+import com.example.eta.repository.ValueLatestRepository;
+import com.example.eta.util.TopK;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 모든 종목의 최신 팩터 값({@code value_latest})을 열 단위로 메모리에 보관하고, 팩터 범위, 업종, 거래소 조건으로 종목을 골라 정렬합니다.
+ *
+ * <p> 팩터마다 종목 순서의 {@code float[]}와 값이 있는 종목의 비트맵({@code long[]})을 두고, 업종과 거래소마다 해당 종목의 비트맵을 둡니다.
+ * 조건은 비트맵의 AND로 좁히고, 범위 조건은 남은 종목의 값만 확인합니다. 정렬은 {@link TopK}로 요청한 개수만큼만 유지합니다.
+ * 요청 처리 중에는 DB를 조회하지 않습니다.
+ *
+ * <p> {@code value_latest}의 최신 날짜가 바뀐 경우에만 새 저장소를 만들어 참조를 교체하므로, 조회하는 쪽은 이전 저장소 또는 새 저장소 중 하나를 온전히 보게 됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockScreener {
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 500;
+
+    // ValueLatestRepository#findAllFactorsWithTicker 결과의 첫 팩터 위치
+    private static final int FACTOR_OFFSET = 4;
+
+    private final ValueLatestRepository valueLatestRepository;
+
+    private Logger logger = LoggerFactory.getLogger(StockScreener.class);
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 조건을 모두 만족하는 종목을 {@code sortBy}(기본값은 종합 점수) 순서로 최대 {@code limit}개 반환합니다.
+     * 업종, 거래소 조건은 목록 중 하나에 해당하면 만족하고, 범위 조건은 해당 팩터 값이 없는 종목은 만족하지 않습니다.
+     * 정렬 기준 팩터 값이 없는 종목은 마지막에 옵니다.
+     */
+    public TickerDto.ScreenResultDto screen(TickerDto.ScreenRequestDto request) {
+        if (snapshot == Snapshot.EMPTY) {
+            refresh();
+        }
+        Snapshot current = snapshot;
+
+        long[] matched = current.all().clone();
+        if (request.getSectors() != null && !request.getSectors().isEmpty()) {
+            and(matched, union(current.sectorBitmaps(), request.getSectors(), matched.length));
+        }
+        if (request.getExchanges() != null && !request.getExchanges().isEmpty()) {
+            and(matched, union(current.exchangeBitmaps(), request.getExchanges(), matched.length));
+        }
+        if (request.getRanges() != null) {
+            for (TickerDto.FactorRangeDto range : request.getRanges()) {
+                if (range.getFactor() == null) {
+                    throw new IllegalArgumentException("Factor is required");
+                }
+                filterRange(current, matched, range);
+            }
+        }
+
+        ValueFactor sortBy = request.getSortBy() != null ? request.getSortBy() : ValueFactor.SCORE;
+        float[] sortColumn = current.columns()[sortBy.ordinal()];
+        int limit = request.getLimit() != null ? Math.max(0, Math.min(request.getLimit(), MAX_LIMIT)) : DEFAULT_LIMIT;
+
+        TopK topK = new TopK(limit);
+        int total = 0;
+        for (int w = 0; w < matched.length; w++) {
+            long bits = matched[w];
+            total += Long.bitCount(bits);
+            while (bits != 0) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(bits);
+                float value = sortColumn[i];
+                topK.offer(i, Float.isNaN(value) ? Float.NEGATIVE_INFINITY : request.isAscending() ? -value : value);
+                bits &= bits - 1;
+            }
+        }
+
+        List<TickerDto.ScreenedTicker> tickers = new ArrayList<>(topK.size());
+        for (int i : topK.drain()) {
+            tickers.add(toScreenedTicker(current, i));
+        }
+        return TickerDto.ScreenResultDto.builder()
+                .total(total)
+                .tickers(tickers)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${screener.refresh-interval:600000}")
+    public synchronized void refresh() {
+        Optional<LocalDateTime> latestScoreDate = valueLatestRepository.findLatestScoreDate();
+        if (latestScoreDate.isEmpty() || latestScoreDate.get().equals(snapshot.scoreDate())) {
+            return;
+        }
+
+        List<Object[]> rows = valueLatestRepository.findAllFactorsWithTicker();
+        int size = rows.size();
+        int words = (size + 63) >>> 6;
+        int factorCount = ValueFactor.values().length;
+        String[] tickers = new String[size];
+        String[] names = new String[size];
+        String[] exchanges = new String[size];
+        String[] sectorNames = new String[size];
+        float[][] columns = new float[factorCount][size];
+        long[][] present = new long[factorCount][words];
+        Map<String, long[]> sectorBitmaps = new HashMap<>();
+        Map<String, long[]> exchangeBitmaps = new HashMap<>();
+        long[] all = new long[words];
+
+        for (int i = 0; i < size; i++) {
+            Object[] row = rows.get(i);
+            tickers[i] = (String) row[0];
+            names[i] = (String) row[1];
+            exchanges[i] = (String) row[2];
+            sectorNames[i] = (String) row[3];
+            for (int f = 0; f < factorCount; f++) {
+                Float value = (Float) row[FACTOR_OFFSET + f];
+                if (value != null && !value.isNaN()) {
+                    columns[f][i] = value;
+                    set(present[f], i);
+                } else {
+                    columns[f][i] = Float.NaN;
+                }
+            }
+            set(sectorBitmaps.computeIfAbsent(sectorNames[i], sector -> new long[words]), i);
+            set(exchangeBitmaps.computeIfAbsent(exchanges[i], exchange -> new long[words]), i);
+            set(all, i);
+        }
+
+        snapshot = new Snapshot(latestScoreDate.get(), tickers, names, exchanges, sectorNames, columns, present,
+                sectorBitmaps, exchangeBitmaps, all);
+        logger.info("Built screener columns of " + size + " tickers (" + latestScoreDate.get() + ")");
+    }
+
+    private void filterRange(Snapshot current, long[] matched, TickerDto.FactorRangeDto range) {
+        int f = range.getFactor().ordinal();
+        float[] column = current.columns()[f];
+        float min = range.getMin() != null ? range.getMin() : Float.NEGATIVE_INFINITY;
+        float max = range.getMax() != null ? range.getMax() : Float.POSITIVE_INFINITY;
+        and(matched, current.present()[f]);
+        for (int w = 0; w < matched.length; w++) {
+            long bits = matched[w];
+            while (bits != 0) {
+                long lowest = bits & -bits;
+                float value = column[(w << 6) + Long.numberOfTrailingZeros(bits)];
+                if (value < min || value > max) {
+                    matched[w] &= ~lowest;
+                }
+                bits ^= lowest;
+            }
+        }
+    }
+
+    private TickerDto.ScreenedTicker toScreenedTicker(Snapshot current, int i) {
+        Map<ValueFactor, Float> factors = new EnumMap<>(ValueFactor.class);
+        for (ValueFactor factor : ValueFactor.values()) {
+            float value = current.columns()[factor.ordinal()][i];
+            factors.put(factor, Float.isNaN(value) ? null : value);
+        }
+        return TickerDto.ScreenedTicker.builder()
+                .ticker(current.tickers()[i])
+                .name(current.names()[i])
+                .exchange(current.exchanges()[i])
+                .sectorName(current.sectorNames()[i])
+                .factors(factors)
+                .build();
+    }
+
+    private static long[] union(Map<String, long[]> bitmaps, List<String> keys, int words) {
+        long[] union = new long[words];
+        for (String key : keys) {
+            long[] bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                for (int w = 0; w < words; w++) {
+                    union[w] |= bitmap[w];
+                }
+            }
+        }
+        return union;
+    }
+
+    private static void and(long[] target, long[] bitmap) {
+        for (int w = 0; w < target.length; w++) {
+            target[w] &= bitmap[w];
+        }
+    }
+
+    private static void set(long[] bitmap, int i) {
+        bitmap[i >>> 6] |= 1L << i;
+    }
+
+    private record Snapshot(LocalDateTime scoreDate, String[] tickers, String[] names, String[] exchanges, String[] sectorNames,
+                            float[][] columns, long[][] present, Map<String, long[]> sectorBitmaps, Map<String, long[]> exchangeBitmaps,
+                            long[] all) {
+        static final Snapshot EMPTY = new Snapshot(null, new String[0], new String[0], new String[0], new String[0],
+                new float[ValueFactor.values().length][0], new long[ValueFactor.values().length][0], Map.of(), Map.of(), new long[0]);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.eta.service;
+
+import com.example.eta.repository.PortfolioTickerRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 종목 코드로 해당 종목을 보유한 포트폴리오 id를 찾는 역색인입니다.
+ *
+ * <p> 애플리케이션 시작 시 {@code portfolio_ticker} 테이블로 전체 색인을 만들고,
+ * 이후에는 보유 종목을 바꾸는 서비스 메서드(매수, 매도, 리밸런싱 반영, 포트폴리오 생성)가 트랜잭션 커밋 후에 색인을 갱신합니다.
+ *
+ * <p> 보유 종목이나 수량이 바뀐 포트폴리오는 따로 기록해 두며, 증분 리밸런싱 시 가격 변동과 무관하게 다시 평가합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TickerPortfolioIndex {
+
+    private final PortfolioTickerRepository portfolioTickerRepository;
+
+    private Logger logger = LoggerFactory.getLogger(TickerPortfolioIndex.class);
+
+    private final Map<String, Set<Integer>> pfIdsByTicker = new ConcurrentHashMap<>();
+    private final Set<Integer> changedPfIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<String, Set<Integer>> index = new HashMap<>();
+        for (Object[] row : portfolioTickerRepository.findAllTickerAndPfIds()) {
+            index.computeIfAbsent((String) row[0], ticker -> ConcurrentHashMap.newKeySet()).add((Integer) row[1]);
+        }
+
+        pfIdsByTicker.clear();
+        pfIdsByTicker.putAll(index);
+        logger.info("Built ticker-portfolio index of " + index.size() + " tickers");
+    }
+
+    /**
+     * 포트폴리오에 종목이 추가되었음을 기록합니다. 현재 트랜잭션이 있으면 커밋된 뒤에 반영합니다.
+     */
+    public void add(String ticker, int pfId) {
+        afterCommit(() -> {
+            pfIdsByTicker.computeIfAbsent(ticker, key -> ConcurrentHashMap.newKeySet()).add(pfId);
+            changedPfIds.add(pfId);
+        });
+    }
+
+    /**
+     * 포트폴리오에서 종목이 제거되었음을 기록합니다. 현재 트랜잭션이 있으면 커밋된 뒤에 반영합니다.
+     */
+    public void remove(String ticker, int pfId) {
+        afterCommit(() -> {
+            Set<Integer> pfIds = pfIdsByTicker.get(ticker);
+            if (pfIds != null) {
+                pfIds.remove(pfId);
+            }
+            changedPfIds.add(pfId);
+        });
+    }
+
+    /**
+     * 보유 종목 구성은 그대로지만 수량이 바뀐 포트폴리오를 기록합니다. 현재 트랜잭션이 있으면 커밋된 뒤에 반영합니다.
+     */
+    public void markChanged(int pfId) {
+        afterCommit(() -> changedPfIds.add(pfId));
+    }
+
+    /**
+     * 포트폴리오를 색인에서 제거합니다. 현재 트랜잭션이 있으면 커밋된 뒤에 반영합니다.
+     */
+    public void removePortfolio(int pfId) {
+        afterCommit(() -> {
+            pfIdsByTicker.values().forEach(pfIds -> pfIds.remove(pfId));
+            changedPfIds.remove(pfId);
+        });
+    }
+
+    /**
+     * 주어진 종목 중 하나 이상을 보유한 포트폴리오 id를 반환합니다.
+     */
+    public Set<Integer> findPfIds(Collection<String> tickers) {
+        Set<Integer> result = new HashSet<>();
+        for (String ticker : tickers) {
+            Set<Integer> pfIds = pfIdsByTicker.get(ticker);
+            if (pfIds != null) {
+                result.addAll(pfIds);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 마지막 호출 이후 보유 종목이 바뀐 포트폴리오 id를 반환하고 기록을 비웁니다.
+     */
+    public Set<Integer> drainChangedPfIds() {
+        Set<Integer> result = new HashSet<>();
+        for (Iterator<Integer> iterator = changedPfIds.iterator(); iterator.hasNext(); ) {
+            result.add(iterator.next());
+            iterator.remove();
+        }
+        return result;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
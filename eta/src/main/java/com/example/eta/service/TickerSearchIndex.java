@@ -0,0 +1,216 @@
+package com.example.eta.service;
+
+import com.example.eta.dto.TickerDto;
+import com.example.eta.repository.TickerRepository;
+import com.example.eta.util.HangulDecomposer;
+import com.example.eta.util.TopK;
+import com.example.eta.util.Utility;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 종목 검색을 위한 자모 3-gram 색인을 메모리에 보관합니다.
+ *
+ * <p> 종목마다 자모 분해된 종목명, 종목 코드, 초성 문자열의 3-gram을 색인하고, 검색어의 모든 3-gram이 있는 종목만 후보로 골라
+ * 실제로 검색어를 포함하는지 확인합니다. 검색어가 3자보다 짧으면 모든 종목을 확인합니다.
+ * 모음이 없는 검색어(예: "ㅅㅅㅈㅈ")는 초성 문자열에서도 찾습니다.
+ *
+ * <p> 검색어로 시작하는 종목을 먼저, 그 안에서는 시가총액이 큰 순서로 반환합니다. 요청 처리 중에는 DB를 조회하지 않습니다.
+ * {@code ticker}의 최근 수정 시각이 바뀐 경우에만 새 색인을 만들어 참조를 교체합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TickerSearchIndex {
+
+    private final TickerRepository tickerRepository;
+
+    private Logger logger = LoggerFactory.getLogger(TickerSearchIndex.class);
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * @param decomposedText {@link Utility#decompose}로 분해한 검색어
+     * @param limit          최대 종목 수
+     */
+    public List<TickerDto.TickerInfo> search(String decomposedText, int limit) {
+        if (snapshot == Snapshot.EMPTY) {
+            refresh();
+        }
+        Snapshot current = snapshot;
+        String query = decomposedText.toLowerCase(Locale.ROOT);
+        boolean chosungQuery = !hasVowel(query);
+
+        TopK prefixMatches = new TopK(limit);
+        TopK otherMatches = new TopK(limit);
+        int[] candidates = candidates(current, query);
+        int count = candidates != null ? candidates.length : current.tickers().length;
+        for (int c = 0; c < count; c++) {
+            int i = candidates != null ? candidates[c] : c;
+            String name = current.decomposedNames()[i];
+            String ticker = current.tickerKeys()[i];
+            String chosung = current.chosungs()[i];
+            float marketCap = current.marketCaps()[i];
+            if (name.startsWith(query) || ticker.startsWith(query) || (chosungQuery && chosung.startsWith(query))) {
+                prefixMatches.offer(i, marketCap);
+            } else if (name.contains(query) || ticker.contains(query) || (chosungQuery && chosung.contains(query))) {
+                otherMatches.offer(i, marketCap);
+            }
+        }
+
+        List<TickerDto.TickerInfo> result = new ArrayList<>(Math.min(limit, prefixMatches.size() + otherMatches.size()));
+        for (int i : prefixMatches.drain()) {
+            result.add(toTickerInfo(current, i));
+        }
+        for (int i : otherMatches.drain()) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(toTickerInfo(current, i));
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${ticker.search.refresh-interval:600000}")
+    public synchronized void refresh() {
+        Optional<LocalDateTime> latestUpdatedDate = tickerRepository.findLatestUpdatedDate();
+        if (latestUpdatedDate.isEmpty() || latestUpdatedDate.get().equals(snapshot.updatedDate())) {
+            return;
+        }
+
+        List<Object[]> rows = tickerRepository.findAllSearchEntries();
+        int size = rows.size();
+        String[] tickers = new String[size];
+        String[] names = new String[size];
+        String[] exchanges = new String[size];
+        float[] marketCaps = new float[size];
+        String[] decomposedNames = new String[size];
+        String[] tickerKeys = new String[size];
+        String[] chosungs = new String[size];
+        Map<Long, List<Integer>> postingLists = new HashMap<>();
+
+        List<Integer> undecomposed = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Object[] row = rows.get(i);
+            tickers[i] = (String) row[0];
+            names[i] = row[1] != null ? (String) row[1] : "";
+            exchanges[i] = (String) row[2];
+            marketCaps[i] = row[3] != null ? ((Number) row[3]).floatValue() : Float.NEGATIVE_INFINITY;
+            decomposedNames[i] = (String) row[4];
+            if (decomposedNames[i] == null) {
+                undecomposed.add(i);
+            }
+        }
+        // ticker_search에 분해된 종목명이 없는 종목은 한 번에 분해
+        String[] decomposed = HangulDecomposer.decomposeAll(undecomposed.stream().map(i -> names[i]).toList());
+        for (int u = 0; u < decomposed.length; u++) {
+            decomposedNames[undecomposed.get(u)] = decomposed[u];
+        }
+
+        for (int i = 0; i < size; i++) {
+            decomposedNames[i] = decomposedNames[i].toLowerCase(Locale.ROOT);
+            tickerKeys[i] = tickers[i].toLowerCase(Locale.ROOT);
+            chosungs[i] = HangulDecomposer.extractChosung(names[i]).toLowerCase(Locale.ROOT);
+
+            Set<Long> trigrams = new HashSet<>();
+            addTrigrams(trigrams, decomposedNames[i]);
+            addTrigrams(trigrams, tickerKeys[i]);
+            addTrigrams(trigrams, chosungs[i]);
+            for (Long trigram : trigrams) {
+                postingLists.computeIfAbsent(trigram, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Map<Long, int[]> postings = new HashMap<>(postingLists.size() * 2);
+        postingLists.forEach((trigram, ids) -> postings.put(trigram, ids.stream().mapToInt(Integer::intValue).toArray()));
+        snapshot = new Snapshot(latestUpdatedDate.get(), tickers, names, exchanges, marketCaps, decomposedNames, tickerKeys, chosungs, postings);
+        logger.info("Built search index of " + size + " tickers with " + postings.size() + " trigrams (" + latestUpdatedDate.get() + ")");
+    }
+
+    /**
+     * 검색어의 모든 3-gram을 포함하는 종목을 반환합니다. 검색어가 3자보다 짧으면 {@code null}(모든 종목)을 반환합니다.
+     */
+    private int[] candidates(Snapshot current, String query) {
+        if (query.length() < 3) {
+            return null;
+        }
+        List<int[]> lists = new ArrayList<>(query.length() - 2);
+        for (int i = 0; i + 3 <= query.length(); i++) {
+            int[] ids = current.postings().get(trigram(query, i));
+            if (ids == null) {
+                return new int[0];
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(ids -> ids.length));
+
+        int[] result = lists.get(0);
+        for (int l = 1; l < lists.size() && result.length > 0; l++) {
+            result = intersect(result, lists.get(l));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static void addTrigrams(Set<Long> trigrams, String text) {
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            trigrams.add(trigram(text, i));
+        }
+    }
+
+    private static long trigram(String text, int i) {
+        return ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+    }
+
+    /**
+     * 한글 모음 자모(ㅏ ~ ㅣ)가 있는지 여부
+     */
+    private static boolean hasVowel(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㅏ' && c <= 'ㅣ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private TickerDto.TickerInfo toTickerInfo(Snapshot current, int i) {
+        return TickerDto.TickerInfo.builder()
+                .ticker(current.tickers()[i])
+                .name(current.names()[i])
+                .exchange(current.exchanges()[i])
+                .build();
+    }
+
+    private record Snapshot(LocalDateTime updatedDate, String[] tickers, String[] names, String[] exchanges, float[] marketCaps,
+                            String[] decomposedNames, String[] tickerKeys, String[] chosungs, Map<Long, int[]> postings) {
+        static final Snapshot EMPTY = new Snapshot(null, new String[0], new String[0], new String[0], new float[0],
+                new String[0], new String[0], new String[0], Map.of());
+    }
+}
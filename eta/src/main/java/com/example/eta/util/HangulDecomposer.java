@@ -0,0 +1,100 @@
+package com.example.eta.util;
+
+import java.util.List;
+
+/**
+ * 한글 음절을 초성, 중성, 종성 자모로 분해합니다.
+ *
+ * <p> 자모는 {@code char} 표에서 바로 꺼내 {@code char[]}에 쓰고, 문자열을 만들 때만 한 번 할당합니다.
+ * 음절 하나는 최대 3자가 되므로 출력 버퍼는 입력 길이의 3배이며, {@link #decompose(String)}는 스레드마다 버퍼를 재사용합니다.
+ * 한글 음절(가 ~ 힣)이 아닌 문자는 그대로 둡니다.
+ */
+public final class HangulDecomposer {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final char[] CHO =
+            {'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+    private static final char[] JUNG =
+            {'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'};
+    // 0번은 종성 없음
+    private static final char[] JONG =
+            {0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+
+    // 스레드마다 보관하는 버퍼의 최대 크기, 이보다 긴 입력은 호출마다 버퍼를 새로 만듦
+    private static final int MAX_BUFFER_SIZE = 4096;
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[192]);
+
+    private HangulDecomposer() {
+    }
+
+    public static String decompose(String string) {
+        int required = string.length() * 3;
+        char[] buffer = BUFFER.get();
+        if (buffer.length < required) {
+            buffer = new char[required];
+            if (required <= MAX_BUFFER_SIZE) {
+                BUFFER.set(buffer);
+            }
+        }
+        return new String(buffer, 0, decompose(string, buffer, 0));
+    }
+
+    /**
+     * {@code string}을 분해해 {@code out[offset]}부터 씁니다. {@code out}에는 {@code offset + string.length() * 3}자 이상의 공간이 있어야 합니다.
+     *
+     * @return 쓴 문자 수
+     */
+    public static int decompose(CharSequence string, char[] out, int offset) {
+        int position = offset;
+        for (int i = 0, length = string.length(); i < length; i++) {
+            char c = string.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                int jong = index % JONG_COUNT;
+                index /= JONG_COUNT;
+                out[position++] = CHO[index / JUNG_COUNT];
+                out[position++] = JUNG[index % JUNG_COUNT];
+                if (jong != 0) {
+                    out[position++] = JONG[jong];
+                }
+            } else {
+                out[position++] = c;
+            }
+        }
+        return position - offset;
+    }
+
+    /**
+     * 여러 문자열을 한 번에 분해합니다. 가장 긴 문자열에 맞춘 버퍼 하나를 모든 문자열에 사용합니다.
+     */
+    public static String[] decomposeAll(List<String> strings) {
+        int maxLength = 0;
+        for (String string : strings) {
+            maxLength = Math.max(maxLength, string.length());
+        }
+
+        char[] buffer = new char[maxLength * 3];
+        String[] decomposed = new String[strings.size()];
+        for (int i = 0; i < decomposed.length; i++) {
+            decomposed[i] = new String(buffer, 0, decompose(strings.get(i), buffer, 0));
+        }
+        return decomposed;
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꿉니다. 한글 음절이 아닌 문자는 그대로 둡니다.
+     */
+    public static String extractChosung(String string) {
+        char[] chars = string.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= SYLLABLE_BASE && chars[i] <= SYLLABLE_LAST) {
+                chars[i] = CHO[(chars[i] - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)];
+            }
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.eta.util;
+
+/**
+ * 종가 시계열로 연간 로그 수익률과 공분산을 계산하고, 주식 비중을 최적화합니다.
+ *
+ * <p> FastAPI 서버({@code make_portfolio.py})의 최적화와 같은 문제를 풉니다. FastAPI 서버의 목적함수는
+ * 종목별 위험 기여도 {@code w_i (Σw)_i / σ}를 {@code σ w_i}에 맞추는데, 이는 모든 종목에서 {@code (Σw)_i = w'Σw}인 조건,
+ * 즉 비중 합이 1인 최소 분산 포트폴리오의 최적 조건과 같습니다. 따라서 여기서는
+ * {@code w'Σw}를 {@code Σw = 1, lower <= w <= upper} 조건에서 최소화하는 이차 계획 문제를 투영 경사 하강법으로 풉니다.
+ *
+ * <p> 모든 계산은 기본형 배열로 하며, 행렬은 {@code [행][열]} 순서입니다.
+ */
+public final class MeanVarianceOptimizer {
+
+    public static final int TRADING_DAYS = 252;
+
+    private static final int MAX_ITERATIONS = 1000;
+    private static final double TOLERANCE = 1e-10;
+
+    private MeanVarianceOptimizer() {
+    }
+
+    /**
+     * @param closes 날짜별 종목별 종가 ({@code closes[날짜][종목]}, 날짜 오름차순)
+     * @return 날짜별 종목별 로그 수익률 ({@code closes.length - 1}개 날짜)
+     */
+    public static double[][] logReturns(double[][] closes) {
+        int days = closes.length - 1;
+        double[][] returns = new double[Math.max(days, 0)][];
+        for (int t = 0; t < days; t++) {
+            int n = closes[t].length;
+            returns[t] = new double[n];
+            for (int i = 0; i < n; i++) {
+                returns[t][i] = Math.log(closes[t + 1][i] / closes[t][i]);
+            }
+        }
+        return returns;
+    }
+
+    /**
+     * 일간 로그 수익률의 평균을 연율화한 값을 반환합니다.
+     */
+    public static double[] annualReturns(double[][] returns, int n) {
+        double[] mean = new double[n];
+        for (double[] row : returns) {
+            for (int i = 0; i < n; i++) {
+                mean[i] += row[i];
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            mean[i] = mean[i] / returns.length * TRADING_DAYS;
+        }
+        return mean;
+    }
+
+    /**
+     * 일간 로그 수익률의 표본 공분산(n - 1로 나눔)을 연율화한 행렬을 반환합니다.
+     */
+    public static double[][] annualCovariance(double[][] returns, int n) {
+        int days = returns.length;
+        double[] mean = new double[n];
+        for (double[] row : returns) {
+            for (int i = 0; i < n; i++) {
+                mean[i] += row[i];
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            mean[i] /= days;
+        }
+
+        double[][] cov = new double[n][n];
+        for (double[] row : returns) {
+            for (int i = 0; i < n; i++) {
+                double di = row[i] - mean[i];
+                for (int j = i; j < n; j++) {
+                    cov[i][j] += di * (row[j] - mean[j]);
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i; j < n; j++) {
+                cov[i][j] = cov[i][j] / (days - 1) * TRADING_DAYS;
+                cov[j][i] = cov[i][j];
+            }
+        }
+        return cov;
+    }
+
+    /**
+     * {@code w'Σw}를 최소화하는 비중을 반환합니다. 비중 합은 1이고 종목별 비중은 {@code [lower, upper]} 범위입니다.
+     *
+     * <p> {@code lower * n > 1}이면 {@code lower}를 {@code 1 / n}으로 낮춥니다.
+     */
+    public static double[] minimumVariance(double[][] cov, double lower, double upper) {
+        int n = cov.length;
+        lower = Math.min(lower, 1.0 / n);
+
+        double[] weights = new double[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = 1.0 / n;
+        }
+
+        // 기울기 2Σw의 립시츠 상수 상한(Σ의 최대 고유값 <= 행의 절댓값 합의 최대)으로 스텝 크기를 정함
+        double lipschitz = 0.0;
+        for (int i = 0; i < n; i++) {
+            double rowSum = 0.0;
+            for (int j = 0; j < n; j++) {
+                rowSum += Math.abs(cov[i][j]);
+            }
+            lipschitz = Math.max(lipschitz, 2.0 * rowSum);
+        }
+        if (lipschitz == 0.0) {
+            return weights;
+        }
+        double step = 1.0 / lipschitz;
+
+        double[] next = new double[n];
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            for (int i = 0; i < n; i++) {
+                double gradient = 0.0;
+                for (int j = 0; j < n; j++) {
+                    gradient += cov[i][j] * weights[j];
+                }
+                next[i] = weights[i] - step * 2.0 * gradient;
+            }
+            project(next, lower, upper);
+
+            double change = 0.0;
+            for (int i = 0; i < n; i++) {
+                change = Math.max(change, Math.abs(next[i] - weights[i]));
+            }
+            double[] swap = weights;
+            weights = next;
+            next = swap;
+            if (change < TOLERANCE) {
+                break;
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * 포트폴리오의 연간 변동성 {@code sqrt(w'Σw)}를 반환합니다.
+     */
+    public static double volatility(double[] weights, double[][] cov) {
+        double variance = 0.0;
+        for (int i = 0; i < weights.length; i++) {
+            for (int j = 0; j < weights.length; j++) {
+                variance += weights[i] * cov[i][j] * weights[j];
+            }
+        }
+        return Math.sqrt(Math.max(variance, 0.0));
+    }
+
+    /**
+     * {@code values}를 {@code Σw = 1, lower <= w <= upper}인 집합에 투영합니다.
+     * {@code clip(v_i - τ)}의 합이 1이 되는 {@code τ}를 이분 탐색으로 찾습니다.
+     */
+    static void project(double[] values, double lower, double upper) {
+        double low = Double.POSITIVE_INFINITY;
+        double high = Double.NEGATIVE_INFINITY;
+        for (double value : values) {
+            low = Math.min(low, value - upper);
+            high = Math.max(high, value - lower);
+        }
+
+        double tau = 0.0;
+        for (int iteration = 0; iteration < 100; iteration++) {
+            tau = (low + high) / 2;
+            double sum = 0.0;
+            for (double value : values) {
+                sum += Math.min(upper, Math.max(lower, value - tau));
+            }
+            if (sum > 1.0) {
+                low = tau;
+            } else {
+                high = tau;
+            }
+        }
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.min(upper, Math.max(lower, values[i] - tau));
+        }
+    }
+}
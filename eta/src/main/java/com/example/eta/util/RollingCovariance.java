@@ -0,0 +1,133 @@
+package com.example.eta.util;
+
+import java.util.Arrays;
+
+/**
+ * 여러 종목의 일간 수익률 평균과 공분산을 관측값을 하나씩 더하고 빼며 갱신합니다. (Welford 방식)
+ *
+ * <p> 관측값을 더할 때는 평균과의 편차 {@code d}로 공동 적률을 {@code d_i * d_j * (n - 1) / n}만큼 늘리고,
+ * 뺄 때는 같은 식을 거꾸로 적용해 {@code d_i * d_j * n / (n - 1)}만큼 줄입니다. 관측값 하나당 O(n²/2)이며 과거 관측값을 다시 읽지 않습니다.
+ *
+ * <p> 공동 적률은 대칭이므로 위쪽 삼각형만 {@code double[]} 하나에 행 순서로 저장합니다.
+ * 종목 {@code i <= j}의 값은 {@code i * n - i * (i - 1) / 2 + (j - i)} 위치에 있습니다.
+ */
+public final class RollingCovariance {
+
+    private final int n;
+    private final double[] mean;
+    private final double[] comoment;
+    private final int[] observations;
+    private int count;
+
+    public RollingCovariance(int n) {
+        this.n = n;
+        this.mean = new double[n];
+        this.comoment = new double[n * (n + 1) / 2];
+        this.observations = new int[n];
+    }
+
+    /**
+     * @param returns  종목별 수익률
+     * @param observed 종목별로 그날 실제 종가가 있었는지 여부
+     */
+    public void add(double[] returns, boolean[] observed) {
+        count++;
+        double[] delta = new double[n];
+        for (int i = 0; i < n; i++) {
+            delta[i] = returns[i] - mean[i];
+            mean[i] += delta[i] / count;
+            if (observed[i]) {
+                observations[i]++;
+            }
+        }
+
+        double factor = (count - 1.0) / count;
+        int index = 0;
+        for (int i = 0; i < n; i++) {
+            double scaled = delta[i] * factor;
+            for (int j = i; j < n; j++) {
+                comoment[index++] += scaled * delta[j];
+            }
+        }
+    }
+
+    /**
+     * 이전에 {@link #add}로 더한 관측값을 뺍니다.
+     */
+    public void remove(double[] returns, boolean[] observed) {
+        if (count <= 1) {
+            clear();
+            return;
+        }
+
+        double[] delta = new double[n];
+        for (int i = 0; i < n; i++) {
+            delta[i] = returns[i] - mean[i];
+            if (observed[i]) {
+                observations[i]--;
+            }
+        }
+
+        double factor = (double) count / (count - 1);
+        int index = 0;
+        for (int i = 0; i < n; i++) {
+            double scaled = delta[i] * factor;
+            for (int j = i; j < n; j++) {
+                comoment[index++] -= scaled * delta[j];
+            }
+        }
+
+        count--;
+        for (int i = 0; i < n; i++) {
+            mean[i] -= delta[i] / count;
+        }
+    }
+
+    public void clear() {
+        count = 0;
+        Arrays.fill(mean, 0.0);
+        Arrays.fill(comoment, 0.0);
+        Arrays.fill(observations, 0);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getObservations(int i) {
+        return observations[i];
+    }
+
+    public double getMean(int i) {
+        return mean[i];
+    }
+
+    /**
+     * 표본 공분산(n - 1로 나눔)을 반환합니다.
+     */
+    public double getCovariance(int i, int j) {
+        if (count < 2) {
+            return 0.0;
+        }
+        return comoment[i <= j ? index(i, j) : index(j, i)] / (count - 1);
+    }
+
+    /**
+     * {@code indices} 순서대로 고른 종목들의 표본 공분산 행렬을 반환합니다. O(k²)입니다.
+     */
+    public double[][] getCovariance(int[] indices) {
+        int k = indices.length;
+        double[][] cov = new double[k][k];
+        for (int a = 0; a < k; a++) {
+            for (int b = a; b < k; b++) {
+                cov[a][b] = getCovariance(indices[a], indices[b]);
+                cov[b][a] = cov[a][b];
+            }
+        }
+        return cov;
+    }
+
+    private int index(int i, int j) {
+        return i * n - i * (i - 1) / 2 + (j - i);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.eta.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * 목표 비중, 가격, 투자 금액으로 종목별 정수 주식 수를 계산합니다.
+ *
+ * <p> 최대 잔여(largest remainder) 방식을 사용합니다.
+ * <ol>
+ *     <li> 종목별 목표 수량({@code 투자 금액 * 비중 / 가격})의 정수 부분만큼 매수합니다.
+ *     <li> 남은 현금으로, 목표 수량의 소수 부분이 큰 종목부터 살 수 있으면 1주씩 더 매수합니다.
+ * </ol>
+ * 반복이나 수렴 조건 없이 정렬 한 번(O(n log n))으로 끝나며, 소수 부분이 같으면 앞 종목을 먼저 매수하므로 같은 입력에는 항상 같은 결과를 냅니다.
+ * 종목별 주식 수는 목표 수량의 내림값 또는 내림값 + 1이고, 총 매수 금액은 투자 금액을 넘지 않습니다.
+ */
+public final class ShareAllocator {
+
+    private ShareAllocator() {
+    }
+
+    /**
+     * @param weights 종목별 목표 비중 (합이 1 이하)
+     * @param prices  종목별 가격
+     * @param cash    투자 금액
+     * @return 종목별 정수 주식 수
+     */
+    public static int[] allocate(float[] weights, float[] prices, float cash) {
+        int n = weights.length;
+        int[] shares = new int[n];
+        double[] remainders = new double[n];
+        double residualCash = cash;
+
+        for (int i = 0; i < n; i++) {
+            if (weights[i] <= 0 || prices[i] <= 0) {
+                continue;
+            }
+            double targetNum = (double) cash * weights[i] / prices[i];
+            shares[i] = (int) Math.floor(targetNum);
+            remainders[i] = targetNum - shares[i];
+            residualCash -= (double) shares[i] * prices[i];
+        }
+
+        // 소수 부분이 큰 순서(같으면 앞 종목부터)로 남은 현금을 배분
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> remainders[i]).reversed()
+                .thenComparingInt(i -> i));
+
+        for (int i : order) {
+            if (remainders[i] > 0 && prices[i] <= residualCash) {
+                shares[i]++;
+                residualCash -= prices[i];
+            }
+        }
+        return shares;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.eta.util;
+
+/**
+ * 키가 큰 순서로 상위 {@code k}개의 정수 id만 남기는 크기가 고정된 최소 힙입니다.
+ *
+ * <p> 힙의 루트는 남긴 것 중 가장 낮은 순위이며, 새 원소가 루트보다 높은 순위일 때만 루트를 교체합니다.
+ * 원소 {@code n}개에 대해 O(n log k)이고 박싱 없이 {@code int[]}와 {@code float[]}만 사용합니다.
+ * 키가 같으면 id가 작은 원소가 높은 순위이므로, 같은 입력에는 항상 같은 결과를 냅니다.
+ */
+public final class TopK {
+
+    private final int[] ids;
+    private final float[] keys;
+    private int size;
+
+    public TopK(int k) {
+        this.ids = new int[k];
+        this.keys = new float[k];
+    }
+
+    public void offer(int id, float key) {
+        if (size < ids.length) {
+            ids[size] = id;
+            keys[size] = key;
+            siftUp(size++);
+        } else if (size > 0 && lower(ids[0], keys[0], id, key)) {
+            ids[0] = id;
+            keys[0] = key;
+            siftDown(0);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 남은 id를 순위가 높은 순서로 반환하고 힙을 비웁니다.
+     */
+    public int[] drain() {
+        int[] sorted = new int[size];
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            sorted[i] = ids[0];
+            size--;
+            ids[0] = ids[size];
+            keys[0] = keys[size];
+            siftDown(0);
+        }
+        return sorted;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!lower(ids[i], keys[i], ids[parent], keys[parent])) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                break;
+            }
+            int lowest = left;
+            int right = left + 1;
+            if (right < size && lower(ids[right], keys[right], ids[left], keys[left])) {
+                lowest = right;
+            }
+            if (!lower(ids[lowest], keys[lowest], ids[i], keys[i])) {
+                break;
+            }
+            swap(i, lowest);
+            i = lowest;
+        }
+    }
+
+    /**
+     * {@code (idA, keyA)}가 {@code (idB, keyB)}보다 낮은 순위인지 여부
+     */
+    private static boolean lower(int idA, float keyA, int idB, float keyB) {
+        return keyA < keyB || (keyA == keyB && idA > idB);
+    }
+
+    private void swap(int a, int b) {
+        int id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        float key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+    }
+}
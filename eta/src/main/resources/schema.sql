@@ -9,7 +9,9 @@ CREATE TABLE `user` (
     `modified_date` datetime NULL,
     `last_login_date` datetime NULL,
     `enabled` bool NOT NULL,
-    PRIMARY KEY (`user_id`)
+    PRIMARY KEY (`user_id`),
+    KEY `idx_user_created_date` (`created_date`),
+    KEY `idx_user_last_login_date` (`last_login_date`)
 );
 
 CREATE TABLE `token` (
@@ -40,6 +42,7 @@ CREATE TABLE `portfolio` (
     `risk_value` int,
     `user_id` int NOT NULL,
     PRIMARY KEY (`pf_id`),
+    KEY `idx_portfolio_created_date` (`created_date`),
     FOREIGN KEY (`user_id`) REFERENCES `user` (`user_id`) ON DELETE CASCADE
 );
 
@@ -142,6 +145,33 @@ CREATE TABLE `value` (
     FOREIGN KEY (`ticker`) REFERENCES `ticker` (`ticker`)
 );
 
+CREATE TABLE `value_latest` (
+    `ticker` varchar(8) NOT NULL,
+    `score_date` date NOT NULL,
+    `sector_name` varchar(255) NULL,
+    `ROE` float NULL,
+    `ROA` float NULL,
+    `GPA` float NULL,
+    `GM` float NULL,
+    `OP` float NULL,
+    `CFROA` float NULL,
+    `EV/sales` float NULL,
+    `PER` float NULL,
+    `PBR` float NULL,
+    `PCR` float NULL,
+    `PSR` float NULL,
+    `DPS` float NULL,
+    `12M_ret` float NULL,
+    `K_ratio` float NULL,
+    `quality` float NULL,
+    `value` float NULL,
+    `momentum` float NULL,
+    `score` float NULL,
+    `ranking` int NULL,
+    PRIMARY KEY (`ticker`),
+    FOREIGN KEY (`ticker`) REFERENCES `ticker` (`ticker`)
+);
+
 CREATE TABLE `price` (
     `date` datetime NOT NULL,
     `ticker` varchar(20) NOT NULL,
@@ -191,5 +221,26 @@ CREATE TABLE `statistic` (
      `date` datetime NOT NULL,
      `total_user` int NOT NULL,
      `total_portfolio` int NOT NULL,
+     `new_user` int NOT NULL DEFAULT 0,
+     `new_portfolio` int NOT NULL DEFAULT 0,
+     `active_user` int NOT NULL DEFAULT 0,
      PRIMARY KEY (`date`)
-);
\ No newline at end of file
+);
+
+CREATE TABLE `notification_outbox` (
+    `outbox_id` bigint NOT NULL AUTO_INCREMENT,
+    `expo_push_token` varchar(255) NOT NULL,
+    `title` varchar(255) NOT NULL,
+    `body` text NOT NULL,
+    `pf_id` int NOT NULL,
+    `rn_id` int NOT NULL,
+    `status` varchar(10) NOT NULL,
+    `attempts` int NOT NULL DEFAULT 0,
+    `created_date` datetime NOT NULL,
+    `sent_date` datetime NULL,
+    `next_attempt_at` datetime NOT NULL,
+    `lease_until` datetime NULL,
+    PRIMARY KEY (`outbox_id`),
+    KEY `idx_notification_outbox_status` (`status`, `next_attempt_at`),
+    FOREIGN KEY (`rn_id`) REFERENCES `rebalancing` (`rn_id`) ON DELETE CASCADE
+);
@@ -11,6 +11,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.util.List;
+
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 public class PriceRepositoryTest {
@@ -31,4 +33,19 @@ public class PriceRepositoryTest {
                 () -> assertEquals(ticker.getTicker(), price.getTicker().getTicker())
         );
     }
+
+    @Test
+    public void testFindLatestPricesByTickers() {
+        List<String> tickers = List.of("005930", "000660");
+        List<Price> prices = priceRepository.findLatestPricesByTickers(tickers);
+
+        assertEquals(tickers.size(), prices.size());
+        for (Price price : prices) {
+            Price latestPrice = priceRepository.findLatestPriceByTicker(price.getTicker().getTicker()).get();
+            Assertions.assertAll(
+                    () -> assertEquals(latestPrice.getDate(), price.getDate()),
+                    () -> assertEquals(latestPrice.getClose(), price.getClose())
+            );
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package com.example.eta.repository;
+
+import com.example.eta.entity.Token;
+import com.example.eta.entity.User;
+import com.example.eta.enums.RoleType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class UserRepositoryTest {
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Test
+    public void testDisableInactiveUsers() {
+        LocalDateTime now = LocalDateTime.now();
+        User inactive = saveUser("inactive", now.minusYears(1), now.minusMonths(4));
+        User neverLoggedIn = saveUser("neverloggedin", now.minusMonths(4), null);
+        User active = saveUser("active", now.minusYears(1), now.minusDays(1));
+        User inactiveWithToken = saveUser("token", now.minusYears(1), now.minusMonths(4));
+        testEntityManager.persist(Token.builder().user(inactiveWithToken).expoPushToken("ExponentPushToken[test]").build());
+        testEntityManager.flush();
+
+        int disabled = userRepository.disableInactiveUsers(now.minusMonths(3));
+        testEntityManager.clear();
+
+        assertTrue(disabled >= 2);
+        assertFalse(userRepository.findById(inactive.getUserId()).get().getEnabled());
+        assertFalse(userRepository.findById(neverLoggedIn.getUserId()).get().getEnabled());
+        assertTrue(userRepository.findById(active.getUserId()).get().getEnabled());
+        assertTrue(userRepository.findById(inactiveWithToken.getUserId()).get().getEnabled());
+    }
+
+    private User saveUser(String name, LocalDateTime createdDate, LocalDateTime lastLoginDate) {
+        return testEntityManager.persist(User.builder()
+                .email(name + "@footest.bartest")
+                .password("password!")
+                .name(name)
+                .roleType(RoleType.ROLE_USER)
+                .createdDate(createdDate)
+                .lastLoginDate(lastLoginDate)
+                .enabled(true)
+                .build());
+    }
+}
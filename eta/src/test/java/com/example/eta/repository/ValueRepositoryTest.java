@@ -0,0 +1,42 @@
+package com.example.eta.repository;
+
+import com.example.eta.entity.ValueLatest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ValueRepositoryTest {
+    @Autowired
+    private ValueRepository valueRepository;
+
+    @Autowired
+    private ValueLatestRepository valueLatestRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Test
+    public void testFindLatestScoreDate() {
+        LocalDateTime scoreDate = LocalDateTime.of(2999, 12, 31, 0, 0);
+        ValueLatest valueLatest = new ValueLatest();
+        valueLatest.setTicker("005930");
+        valueLatest.setScoreDate(scoreDate);
+        valueLatest.setSectorName("test");
+        valueLatestRepository.save(valueLatest);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        LocalDateTime latestScoreDate = valueRepository.findLatestScoreDate().get();
+        assertNotNull(latestScoreDate);
+        assertEquals(LocalDateTime.class, latestScoreDate.getClass());
+        assertEquals(scoreDate, valueLatestRepository.findLatestScoreDate().get());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.eta.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class InvestmentOptimizerTest {
+
+    @Test
+    @DisplayName("기본형 배열 구현이 기존 맵 기반 구현과 같은 주식 수를 반환하는지 확인")
+    public void testOptimizeMatchesLegacyImplementation() {
+        Random random = new Random(20240501L);
+
+        for (int trial = 0; trial < 10000; trial++) {
+            int tickerNum = 1 + random.nextInt(25);
+            float[] closes = new float[tickerNum];
+            float[] initProportions = new float[tickerNum];
+            boolean[] safeAsset = new boolean[tickerNum];
+            float[] newAssetNum = new float[tickerNum];
+
+            float totalCurrentInvest = 1_000_000f + random.nextFloat() * 500_000_000f;
+            float proportionSum = 0.0f;
+            for (int i = 0; i < tickerNum; i++) {
+                closes[i] = 100f + random.nextInt(1_000_000);
+                initProportions[i] = 0.01f + random.nextFloat();
+                proportionSum += initProportions[i];
+                safeAsset[i] = random.nextInt(5) == 0;
+            }
+            for (int i = 0; i < tickerNum; i++) {
+                initProportions[i] /= proportionSum;
+                newAssetNum[i] = totalCurrentInvest * initProportions[i] / closes[i];
+            }
+
+            int[] expected = legacyOptimizeInvestment(newAssetNum, closes, initProportions, safeAsset);
+            int[] actual = InvestmentOptimizer.optimize(newAssetNum, closes, initProportions, safeAsset);
+            assertArrayEquals(expected, actual, "trial " + trial);
+        }
+    }
+
+    /**
+     * 기존 {@code PortfolioScheduler.optimizeInvestment}를 종목 인덱스를 키로 하여 그대로 옮긴 구현입니다.
+     */
+    private int[] legacyOptimizeInvestment(float[] initAssetNum, float[] closes, float[] initProportions, boolean[] safeAsset) {
+        int MAX_ITERATION = 100;
+        Map<Integer, Integer> assetNumResult = new LinkedHashMap<>();
+
+        Map<Integer, Float> initAssetNumWithoutSafe = new LinkedHashMap<>();
+        Map<Integer, Integer> initAssetNumWithoufSafeOld = new LinkedHashMap<>();
+        Map<Integer, Integer> initAssetNumSafe = new LinkedHashMap<>();
+        for (int i = 0; i < initAssetNum.length; i++) {
+            if (safeAsset[i]) {
+                initAssetNumSafe.put(i, (int) Math.floor(initAssetNum[i]));
+            } else {
+                initAssetNumWithoutSafe.put(i, initAssetNum[i]);
+                initAssetNumWithoufSafeOld.put(i, (int) Math.floor(initAssetNum[i]));
+            }
+        }
+
+        float cash = 0.0f;
+        for (Integer i : initAssetNumWithoutSafe.keySet()) {
+            cash += initAssetNumWithoutSafe.get(i);
+        }
+
+        for (int iteration = 0; iteration < MAX_ITERATION; iteration++) {
+            Map<Integer, Integer> assetNumInt = new LinkedHashMap<>();
+            Map<Integer, Float> remainingDecimals = new LinkedHashMap<>();
+            for (Integer i : initAssetNumWithoutSafe.keySet()) {
+                float close = closes[i];
+                float initProportion = initProportions[i];
+                assetNumInt.put(i, (int) (cash * initProportion / close));
+                remainingDecimals.put(i, cash * initProportion / close - (int) ((cash * initProportion) / close));
+            }
+
+            for (Integer i : assetNumInt.keySet()) {
+                assetNumInt.put(i, assetNumInt.get(i) + initAssetNumWithoufSafeOld.get(i));
+            }
+
+            float newCash = 0.0f;
+            for (Integer i : remainingDecimals.keySet()) {
+                cash += remainingDecimals.get(i) * closes[i];
+            }
+
+            if (assetNumInt.values().stream().reduce(0, Integer::sum) == initAssetNumWithoufSafeOld.values().stream().reduce(0, Integer::sum)
+                    || Math.abs(cash - newCash) / newCash < 0.001 || cash == newCash || newCash == 0.0) {
+                assetNumResult.putAll(assetNumInt);
+                assetNumResult.putAll(initAssetNumSafe);
+                break;
+            }
+            initAssetNumWithoufSafeOld = assetNumInt;
+            cash = newCash;
+        }
+
+        int[] result = new int[initAssetNum.length];
+        for (Map.Entry<Integer, Integer> entry : assetNumResult.entrySet()) {
+            result[entry.getKey()] = entry.getValue();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.eta.scheduler;
+
+import com.example.eta.entity.NotificationOutbox;
+import com.example.eta.enums.OutboxStatus;
+import com.example.eta.enums.PushDeliveryStatus;
+import com.example.eta.repository.NotificationOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class NotificationOutboxRelayTest {
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private PushNotificationDispatcher pushNotificationDispatcher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private NotificationOutboxRelay notificationOutboxRelay;
+
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(notificationOutboxRelay, "batchSize", 500);
+        ReflectionTestUtils.setField(notificationOutboxRelay, "maxAttempts", 5);
+        ReflectionTestUtils.setField(notificationOutboxRelay, "retryBackoff", 60000L);
+        ReflectionTestUtils.setField(notificationOutboxRelay, "maxRetryBackoff", 3600000L);
+        ReflectionTestUtils.setField(notificationOutboxRelay, "leaseDuration", 300000L);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                return ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null);
+            } finally {
+                inTransaction.set(false);
+            }
+        });
+        doAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+                return null;
+            } finally {
+                inTransaction.set(false);
+            }
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("알림 전송: 트랜잭션 밖에서 전송하고, 결과별로 전송 완료, 재시도 대기, 실패로 기록")
+    public void testRelay() {
+        List<NotificationOutbox> outboxes = List.of(outbox(1), outbox(2), outbox(3));
+        when(notificationOutboxRepository.claimPending(any(), anyInt())).thenReturn(outboxes);
+        when(notificationOutboxRepository.findAllById(any())).thenReturn(outboxes);
+        when(pushNotificationDispatcher.deliver(any())).thenAnswer(invocation -> {
+            assertFalse(inTransaction.get());
+            assertTrue(outboxes.stream().allMatch(outbox -> outbox.getStatus() == OutboxStatus.SENDING));
+            return new PushDeliveryStatus[]{
+                    PushDeliveryStatus.DELIVERED, PushDeliveryStatus.TRANSIENT_FAILURE, PushDeliveryStatus.PERMANENT_FAILURE};
+        });
+
+        notificationOutboxRelay.relay();
+
+        assertAll(
+                () -> assertEquals(OutboxStatus.SENT, outboxes.get(0).getStatus()),
+                () -> assertNotNull(outboxes.get(0).getSentDate()),
+                () -> assertEquals(OutboxStatus.PENDING, outboxes.get(1).getStatus()),
+                () -> assertEquals(1, outboxes.get(1).getAttempts()),
+                () -> assertEquals(OutboxStatus.FAILED, outboxes.get(2).getStatus()),
+                () -> assertEquals(1, outboxes.get(2).getAttempts()),
+                () -> assertTrue(outboxes.stream().allMatch(outbox -> outbox.getLeaseUntil() == null))
+        );
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("알림 전송: 전송 기한이 지나 다른 실행이 다시 가져간 알림은 기록하지 않음")
+    public void testSkipReclaimedOutbox() {
+        NotificationOutbox outbox = outbox(1);
+        LocalDateTime otherLease = LocalDateTime.now().plusHours(1).withNano(0);
+        when(notificationOutboxRepository.claimPending(any(), anyInt())).thenReturn(List.of(outbox));
+        when(notificationOutboxRepository.findAllById(any())).thenReturn(List.of(outbox));
+        when(pushNotificationDispatcher.deliver(any())).thenAnswer(invocation -> {
+            outbox.markSending(otherLease);
+            return new PushDeliveryStatus[]{PushDeliveryStatus.DELIVERED};
+        });
+
+        notificationOutboxRelay.relay();
+
+        assertEquals(OutboxStatus.SENDING, outbox.getStatus());
+        assertEquals(otherLease, outbox.getLeaseUntil());
+        assertEquals(0, outbox.getAttempts());
+    }
+
+    @Test
+    @DisplayName("알림 전송: 일시적으로 실패한 알림은 다시 시도할 시각 전에는 가져가지 않고, 시도할 때마다 두 배씩 기다림")
+    public void testBackoffAfterTransientFailure() {
+        NotificationOutbox outbox = outbox(1);
+        // claimPending 쿼리의 조건을 그대로 적용
+        when(notificationOutboxRepository.claimPending(any(), anyInt())).thenAnswer(invocation -> claimable(outbox, invocation.getArgument(0)));
+        when(notificationOutboxRepository.findAllById(any())).thenReturn(List.of(outbox));
+        when(pushNotificationDispatcher.deliver(any())).thenReturn(new PushDeliveryStatus[]{PushDeliveryStatus.TRANSIENT_FAILURE});
+
+        LocalDateTime before = LocalDateTime.now();
+        notificationOutboxRelay.relay();
+        LocalDateTime firstAttemptAt = outbox.getNextAttemptAt();
+
+        // 다음 실행에서는 가져가지 않음
+        notificationOutboxRelay.relay();
+        verify(pushNotificationDispatcher, times(1)).deliver(any());
+        assertEquals(OutboxStatus.PENDING, outbox.getStatus());
+        assertEquals(1, outbox.getAttempts());
+        assertFalse(firstAttemptAt.isBefore(before.plusMinutes(1)));
+        assertTrue(claimable(outbox, firstAttemptAt.minusSeconds(1)).isEmpty());
+        assertEquals(List.of(outbox), claimable(outbox, firstAttemptAt));
+
+        // 두 번째 실패는 2분 뒤
+        outbox.markSending(LocalDateTime.now().plusMinutes(5));
+        LocalDateTime now = LocalDateTime.now();
+        outbox.markFailedAttempt(5, now, Duration.ofMinutes(1), Duration.ofHours(1));
+        assertEquals(now.plusMinutes(2), outbox.getNextAttemptAt());
+    }
+
+    private List<NotificationOutbox> claimable(NotificationOutbox outbox, LocalDateTime now) {
+        boolean pending = outbox.getStatus() == OutboxStatus.PENDING && !outbox.getNextAttemptAt().isAfter(now);
+        boolean leaseExpired = outbox.getStatus() == OutboxStatus.SENDING && outbox.getLeaseUntil().isBefore(now);
+        return pending || leaseExpired ? List.of(outbox) : List.of();
+    }
+
+    private NotificationOutbox outbox(long outboxId) {
+        return NotificationOutbox.builder()
+                .outboxId(outboxId)
+                .expoPushToken("ExponentPushToken[" + outboxId + "]")
+                .title("리밸런싱 알림")
+                .body("테스트 " + outboxId)
+                .pfId(1)
+                .rnId(1)
+                .createdDate(LocalDateTime.now())
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.eta.scheduler;
+
+import com.example.eta.api.WebClientFactory;
+import com.example.eta.dto.PushMessageDto;
+import com.example.eta.enums.PushDeliveryStatus;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 스텁 HTTP 서버를 Expo 푸시 API 대신 사용하여 {@link PushNotificationDispatcher}를 검증합니다.
+ */
+public class PushNotificationDispatcherTest {
+
+    private HttpServer server;
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile Function<JsonArray, String> ticketResponder;
+    private volatile int failFirstRequestsWith503 = 0;
+
+    private PushNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/push/send", this::handle);
+        server.start();
+
+        dispatcher = new PushNotificationDispatcher(new WebClientFactory(new MockEnvironment()));
+        ReflectionTestUtils.setField(dispatcher, "expoUrl", "http://127.0.0.1:" + server.getAddress().getPort() + "/push/send");
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 100);
+        ReflectionTestUtils.setField(dispatcher, "concurrency", 4);
+        ReflectionTestUtils.setField(dispatcher, "maxRetries", 3);
+        ReflectionTestUtils.setField(dispatcher, "retryBackoff", 10L);
+        ticketResponder = messages -> okTickets(messages.size());
+        dispatcher.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("푸시 알림을 100개 이하의 묶음으로 전송")
+    public void testSendInBatches() {
+        PushDeliveryStatus[] statuses = dispatcher.deliver(IntStream.range(0, 250).mapToObj(this::message).toList());
+
+        assertEquals(250, statuses.length);
+        assertTrue(allDelivered(statuses));
+        assertEquals(250, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 100));
+        assertTrue(batchSizes.size() >= 3);
+    }
+
+    @Test
+    @DisplayName("서버 오류 시 배치 전체를 다시 전송")
+    public void testRetryOnServerError() {
+        failFirstRequestsWith503 = 2;
+        PushDeliveryStatus[] statuses = dispatcher.deliver(IntStream.range(0, 10).mapToObj(this::message).toList());
+
+        assertTrue(allDelivered(statuses));
+        assertEquals(3, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("티켓 오류 중 일시적인 오류만 해당 메시지를 다시 전송하고, 등록되지 않은 기기는 영구 실패로 반환")
+    public void testRetryTransientTicketErrors() {
+        AtomicInteger ticketRequests = new AtomicInteger();
+        ticketResponder = messages -> {
+            if (ticketRequests.getAndIncrement() > 0) {
+                return okTickets(messages.size());
+            }
+            // 첫 요청: 0번 성공, 1번 전송량 초과(재전송), 2번 등록되지 않은 기기(실패)
+            return "{\"data\":[" +
+                    "{\"status\":\"ok\",\"id\":\"a\"}," +
+                    "{\"status\":\"error\",\"message\":\"rate\",\"details\":{\"error\":\"MessageRateExceeded\"}}," +
+                    "{\"status\":\"error\",\"message\":\"gone\",\"details\":{\"error\":\"DeviceNotRegistered\"}}]}";
+        };
+        PushDeliveryStatus[] statuses = dispatcher.deliver(IntStream.range(0, 3).mapToObj(this::message).toList());
+
+        assertArrayEquals(new PushDeliveryStatus[]{
+                PushDeliveryStatus.DELIVERED, PushDeliveryStatus.DELIVERED, PushDeliveryStatus.PERMANENT_FAILURE}, statuses);
+        assertEquals(List.of(3, 1), batchSizes);
+    }
+
+    @Test
+    @DisplayName("상태가 없는 티켓은 일시적 실패로 처리")
+    public void testTicketWithoutStatus() {
+        ticketResponder = messages -> "{\"data\":[{\"status\":\"ok\",\"id\":\"a\"},{\"message\":\"unknown\"}]}";
+
+        PushDeliveryStatus[] statuses = dispatcher.deliver(IntStream.range(0, 2).mapToObj(this::message).toList());
+
+        assertArrayEquals(new PushDeliveryStatus[]{PushDeliveryStatus.DELIVERED, PushDeliveryStatus.TRANSIENT_FAILURE}, statuses);
+    }
+
+    @Test
+    @DisplayName("전송 결과를 기다려 메시지별 결과 반환")
+    public void testDeliver() {
+        ticketResponder = messages -> {
+            StringBuilder builder = new StringBuilder("{\"data\":[");
+            for (int i = 0; i < messages.size(); i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                // 토큰 번호가 7의 배수인 기기는 등록 해제된 것으로 응답
+                int token = Integer.parseInt(messages.get(i).getAsJsonObject().get("to").getAsString().replaceAll("\\D", ""));
+                builder.append(token % 7 == 0 ?
+                        "{\"status\":\"error\",\"message\":\"gone\",\"details\":{\"error\":\"DeviceNotRegistered\"}}" :
+                        "{\"status\":\"ok\",\"id\":\"" + i + "\"}");
+            }
+            return builder.append("]}").toString();
+        };
+        List<PushMessageDto> messages = IntStream.range(0, 230).mapToObj(this::message).toList();
+
+        PushDeliveryStatus[] statuses = dispatcher.deliver(messages);
+
+        assertEquals(230, statuses.length);
+        for (int i = 0; i < statuses.length; i++) {
+            assertEquals(i % 7 != 0 ? PushDeliveryStatus.DELIVERED : PushDeliveryStatus.PERMANENT_FAILURE, statuses[i], "message " + i);
+        }
+        assertEquals(List.of(100, 100, 30), batchSizes.stream().sorted(Comparator.reverseOrder()).toList());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        byte[] response;
+        int status;
+        if (failFirstRequestsWith503 > 0) {
+            failFirstRequestsWith503--;
+            status = 503;
+            response = new byte[0];
+        } else {
+            JsonArray messages = JsonParser.parseString(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)).getAsJsonArray();
+            batchSizes.add(messages.size());
+            status = 200;
+            response = ticketResponder.apply(messages).getBytes(StandardCharsets.UTF_8);
+        }
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, response.length == 0 ? -1 : response.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(response);
+        }
+    }
+
+    private String okTickets(int size) {
+        StringBuilder builder = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"status\":\"ok\",\"id\":\"").append(i).append("\"}");
+        }
+        return builder.append("]}").toString();
+    }
+
+    private boolean allDelivered(PushDeliveryStatus[] statuses) {
+        return Arrays.stream(statuses).allMatch(status -> status == PushDeliveryStatus.DELIVERED);
+    }
+
+    private PushMessageDto message(int i) {
+        return PushMessageDto.builder()
+                .to("ExponentPushToken[" + i + "]")
+                .title("리밸런싱 알림")
+                .body("테스트 " + i)
+                .data(new PushMessageDto.PushMessageData(i, i))
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.eta.scheduler;
+
+import com.example.eta.repository.ValueLatestRepository;
+import com.example.eta.repository.ValueLatestWriter;
+import com.example.eta.repository.ValueRepository;
+import com.example.eta.service.SectorRankIndex;
+import com.example.eta.service.StockScreener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+public class ValueLatestUpdaterTest {
+
+    @Mock
+    private ValueRepository valueRepository;
+
+    @Mock
+    private ValueLatestRepository valueLatestRepository;
+
+    @Mock
+    private ValueLatestWriter valueLatestWriter;
+
+    @Mock
+    private SectorRankIndex sectorRankIndex;
+
+    @Mock
+    private StockScreener stockScreener;
+
+    @InjectMocks
+    private ValueLatestUpdater valueLatestUpdater;
+
+    private final LocalDateTime projected = LocalDateTime.of(2024, 5, 27, 0, 0);
+    private final LocalDateTime latest = LocalDateTime.of(2024, 6, 3, 0, 0);
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("value에 새 score_date가 적재되면 value_latest 이후의 행만 반영하고 순위 인덱스와 스크리너를 다시 만듦")
+    public void testUpdateNewScores() {
+        when(valueRepository.findLatestScoreDate()).thenReturn(Optional.of(latest));
+        when(valueLatestRepository.findLatestScoreDate()).thenReturn(Optional.of(projected));
+
+        valueLatestUpdater.update();
+
+        verify(valueLatestWriter).upsertScoresAfter(projected);
+        verify(sectorRankIndex).refresh();
+        verify(stockScreener).refresh();
+    }
+
+    @Test
+    @DisplayName("value_latest가 최신이면 아무것도 하지 않음")
+    public void testSkipUpToDate() {
+        when(valueRepository.findLatestScoreDate()).thenReturn(Optional.of(latest));
+        when(valueLatestRepository.findLatestScoreDate()).thenReturn(Optional.of(latest));
+
+        valueLatestUpdater.update();
+
+        verifyNoInteractions(valueLatestWriter, sectorRankIndex, stockScreener);
+    }
+
+    @Test
+    @DisplayName("value_latest가 비어 있으면 전체를 반영")
+    public void testInitialLoad() {
+        when(valueRepository.findLatestScoreDate()).thenReturn(Optional.of(latest));
+        when(valueLatestRepository.findLatestScoreDate()).thenReturn(Optional.empty());
+
+        valueLatestUpdater.update();
+
+        verify(valueLatestWriter).upsertScoresAfter(argThat(after -> after.isBefore(latest.minusYears(30))));
+    }
+}
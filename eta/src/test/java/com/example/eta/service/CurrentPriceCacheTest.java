@@ -0,0 +1,152 @@
+package com.example.eta.service;
+
+import com.example.eta.api.ApiClientFastApi;
+import com.example.eta.dto.TickerDto;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class CurrentPriceCacheTest {
+
+    @Mock
+    private ApiClientFastApi apiClientFastApi;
+
+    @Mock
+    private LatestPriceProvider latestPriceProvider;
+
+    @InjectMocks
+    private CurrentPriceCache currentPriceCache;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(currentPriceCache, "ttl", 60000L);
+        ReflectionTestUtils.setField(currentPriceCache, "offMarketTtl", 60000L);
+    }
+
+    @Test
+    @DisplayName("현재가 캐시: 캐시에 없는 종목만 조회")
+    public void testFetchOnlyMissingTickers() {
+        when(apiClientFastApi.getCurrentTickerPrice(List.of("005930"))).thenReturn(response("005930", 80000f));
+        when(apiClientFastApi.getCurrentTickerPrice(List.of("000660"))).thenReturn(response("000660", 200000f));
+
+        currentPriceCache.getCurrentPrices(List.of("005930")).block();
+        List<TickerDto.TickerPrice> prices = currentPriceCache.getCurrentPrices(List.of("000660", "005930")).block();
+
+        assertEquals("000660", prices.get(0).getTicker());
+        assertEquals(200000f, prices.get(0).getCurrent_price());
+        assertEquals("005930", prices.get(1).getTicker());
+        assertEquals(80000f, prices.get(1).getCurrent_price());
+        verify(apiClientFastApi, times(1)).getCurrentTickerPrice(List.of("005930"));
+        verify(apiClientFastApi, times(1)).getCurrentTickerPrice(List.of("000660"));
+        verifyNoMoreInteractions(apiClientFastApi);
+    }
+
+    @Test
+    @DisplayName("현재가 캐시: 같은 종목을 동시에 조회하면 한 번만 조회")
+    public void testCoalesceConcurrentMisses() {
+        Sinks.One<ResponseEntity<TickerDto.TickerPriceListDto>> pending = Sinks.one();
+        when(apiClientFastApi.getCurrentTickerPrice(List.of("005930"))).thenReturn(pending.asMono());
+
+        Mono<List<TickerDto.TickerPrice>> first = currentPriceCache.getCurrentPrices(List.of("005930")).cache();
+        first.subscribe();
+        Mono<List<TickerDto.TickerPrice>> second = currentPriceCache.getCurrentPrices(List.of("005930"));
+
+        pending.tryEmitValue(response("005930", 80000f).block());
+
+        assertEquals(80000f, first.block().get(0).getCurrent_price());
+        assertEquals(80000f, second.block().get(0).getCurrent_price());
+        verify(apiClientFastApi, times(1)).getCurrentTickerPrice(anyList());
+    }
+
+    @Test
+    @DisplayName("현재가 캐시: 일부 종목이 겹치는 요청이 동시에 들어와도 모든 종목의 현재가를 받고 종목마다 한 번만 조회")
+    public void testConcurrentOverlappingRequests() throws Exception {
+        Queue<String> fetchedTickers = new ConcurrentLinkedQueue<>();
+        when(apiClientFastApi.getCurrentTickerPrice(anyList())).thenAnswer(invocation -> {
+            List<String> requested = invocation.getArgument(0);
+            fetchedTickers.addAll(requested);
+            List<TickerDto.TickerPrice> prices = requested.stream()
+                    .map(ticker -> new TickerDto.TickerPrice(ticker, Float.parseFloat(ticker)))
+                    .toList();
+            return Mono.just(ResponseEntity.ok(new TickerDto.TickerPriceListDto(prices)))
+                    .delayElement(Duration.ofMillis(1));
+        });
+        List<String> first = IntStream.range(0, 50).mapToObj(i -> String.format("%06d", i)).toList();
+        List<String> second = IntStream.range(25, 75).mapToObj(i -> String.format("%06d", i)).toList();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 200; round++) {
+                CurrentPriceCache cache = new CurrentPriceCache(apiClientFastApi, latestPriceProvider);
+                ReflectionTestUtils.setField(cache, "ttl", 60000L);
+                ReflectionTestUtils.setField(cache, "offMarketTtl", 60000L);
+                fetchedTickers.clear();
+
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<List<TickerDto.TickerPrice>> firstPrices = executor.submit(() -> {
+                    barrier.await();
+                    return cache.getCurrentPrices(first).block(Duration.ofSeconds(5));
+                });
+                Future<List<TickerDto.TickerPrice>> secondPrices = executor.submit(() -> {
+                    barrier.await();
+                    return cache.getCurrentPrices(second).block(Duration.ofSeconds(5));
+                });
+
+                assertPrices(first, firstPrices.get());
+                assertPrices(second, secondPrices.get());
+                assertEquals(75, fetchedTickers.size());
+                assertEquals(75, new HashSet<>(fetchedTickers).size());
+                assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(cache, "inFlight")).isEmpty());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("현재가 캐시: FastAPI 호출이 불가능하면 최근 종가로 대신하고 캐시하지 않음")
+    public void testFallbackToLatestClose() {
+        when(apiClientFastApi.getCurrentTickerPrice(List.of("005930")))
+                .thenReturn(Mono.error(CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("test"))))
+                .thenReturn(response("005930", 80000f));
+        when(latestPriceProvider.getLatestCloses(List.of("005930"))).thenReturn(Map.of("005930", 79000f));
+
+        assertEquals(79000f, currentPriceCache.getCurrentPrices(List.of("005930")).block().get(0).getCurrent_price());
+        assertEquals(80000f, currentPriceCache.getCurrentPrices(List.of("005930")).block().get(0).getCurrent_price());
+    }
+
+    private void assertPrices(List<String> tickers, List<TickerDto.TickerPrice> prices) {
+        assertEquals(tickers.size(), prices.size());
+        for (int i = 0; i < tickers.size(); i++) {
+            assertEquals(tickers.get(i), prices.get(i).getTicker());
+            assertEquals(Float.parseFloat(tickers.get(i)), prices.get(i).getCurrent_price());
+        }
+    }
+
+    private Mono<ResponseEntity<TickerDto.TickerPriceListDto>> response(String ticker, float price) {
+        return Mono.just(ResponseEntity.ok(new TickerDto.TickerPriceListDto(List.of(new TickerDto.TickerPrice(ticker, price)))));
+    }
+}
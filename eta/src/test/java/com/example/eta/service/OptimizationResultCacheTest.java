@@ -0,0 +1,110 @@
+package com.example.eta.service;
+
+import com.example.eta.dto.PortfolioDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OptimizationResultCacheTest {
+
+    @Mock
+    private PortfolioOptimizer portfolioOptimizer;
+
+    @InjectMocks
+    private OptimizationResultCache optimizationResultCache;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("최적화 결과 캐시: 투자 금액만 다른 요청은 주식 수로 나누기 전 비중을 재사용")
+    public void testReuseWeightsForDifferentCash() {
+        // 첫 요청의 투자 금액(100만 원)으로 주식 수를 나눈 뒤의 비중은 나누기 전 비중과 다름
+        PortfolioDto.CreatedResultFromFastApiDto result = new PortfolioDto.CreatedResultFromFastApiDto();
+        result.setWeights(List.of(0.5f, 0.3f, 0.2f));
+        result.setTotal_radio_final(List.of(0.45f, 0.28f, 0.19f, 0.08f));
+        when(portfolioOptimizer.optimize(any())).thenReturn(Mono.just(result));
+
+        List<Float> first = optimizationResultCache.getWeights(request(List.of("005930.KS", "000660.KS"), 0.3f, 1000000)).block();
+        List<Float> second = optimizationResultCache.getWeights(request(List.of("005930.KS", "000660.KS"), 0.3f, 5000000)).block();
+
+        assertEquals(List.of(0.5f, 0.3f, 0.2f), first);
+        assertEquals(first, second);
+        verify(portfolioOptimizer, times(1)).optimize(any());
+    }
+
+    @Test
+    @DisplayName("최적화 결과 캐시: 나누기 전 비중이 없는 FastAPI 결과는 투자 금액이 같은 요청만 재사용")
+    public void testFastApiResultReusedOnlyForSameCash() {
+        PortfolioDto.CreatedResultFromFastApiDto result = new PortfolioDto.CreatedResultFromFastApiDto();
+        result.setTotal_radio_final(List.of(0.45f, 0.28f, 0.19f, 0.08f));
+        PortfolioDto.CreatedResultFromFastApiDto otherCashResult = new PortfolioDto.CreatedResultFromFastApiDto();
+        otherCashResult.setTotal_radio_final(List.of(0.49f, 0.3f, 0.2f, 0.01f));
+        when(portfolioOptimizer.optimize(any()))
+                .thenReturn(Mono.just(result))
+                .thenReturn(Mono.just(otherCashResult));
+
+        List<Float> first = optimizationResultCache.getWeights(request(List.of("005930.KS", "000660.KS"), 0.3f, 1000000)).block();
+        List<Float> sameCash = optimizationResultCache.getWeights(request(List.of("005930.KS", "000660.KS"), 0.3f, 1000000)).block();
+        List<Float> otherCash = optimizationResultCache.getWeights(request(List.of("005930.KS", "000660.KS"), 0.3f, 5000000)).block();
+
+        assertEquals(List.of(0.45f, 0.28f, 0.19f, 0.08f), first);
+        assertEquals(first, sameCash);
+        assertEquals(List.of(0.49f, 0.3f, 0.2f, 0.01f), otherCash);
+        verify(portfolioOptimizer, times(2)).optimize(any());
+    }
+
+    @Test
+    @DisplayName("최적화 결과 캐시: 안전자산 비중이나 종목이 다르면 새로 요청")
+    public void testDifferentKeys() {
+        when(portfolioOptimizer.optimize(any())).thenReturn(response(List.of(0.5f, 0.3f, 0.2f)));
+
+        optimizationResultCache.getWeights(request(List.of("005930.KS", "000660.KS"), 0.3f, 1000000)).block();
+        optimizationResultCache.getWeights(request(List.of("005930.KS", "000660.KS"), 0.1f, 1000000)).block();
+        optimizationResultCache.getWeights(request(List.of("005930.KS", "035720.KS"), 0.3f, 1000000)).block();
+
+        verify(portfolioOptimizer, times(3)).optimize(any());
+    }
+
+    @Test
+    @DisplayName("최적화 결과 캐시: 실패한 결과는 보관하지 않음")
+    public void testDoNotCacheFailure() {
+        when(portfolioOptimizer.optimize(any()))
+                .thenReturn(Mono.error(new IllegalStateException("FastAPI 오류")))
+                .thenReturn(response(List.of(0.6f, 0.2f, 0.2f)));
+
+        assertThrows(IllegalStateException.class,
+                () -> optimizationResultCache.getWeights(request(List.of("005930.KS", "000660.KS"), 0.2f, 1000000)).block());
+        List<Float> weights = optimizationResultCache.getWeights(request(List.of("005930.KS", "000660.KS"), 0.2f, 1000000)).block();
+
+        assertEquals(List.of(0.6f, 0.2f, 0.2f), weights);
+        verify(portfolioOptimizer, times(2)).optimize(any());
+    }
+
+    private PortfolioDto.CreateRequestToFastApiDto request(List<String> tickers, float safeAssetRatio, int initialCash) {
+        return PortfolioDto.CreateRequestToFastApiDto.builder()
+                .tickers(tickers)
+                .safe_asset_ratio(safeAssetRatio)
+                .initial_cash(initialCash)
+                .build();
+    }
+
+    private Mono<PortfolioDto.CreatedResultFromFastApiDto> response(List<Float> weights) {
+        PortfolioDto.CreatedResultFromFastApiDto result = new PortfolioDto.CreatedResultFromFastApiDto();
+        result.setWeights(weights);
+        return Mono.just(result);
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.example.eta.dto.PortfolioDto;
 import com.example.eta.entity.*;
 import com.example.eta.enums.RoleType;
+import com.example.eta.exception.portfolio.CannotSellStockException;
+import com.example.eta.exception.portfolio.InvalidTradeException;
 import com.example.eta.repository.*;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -105,6 +107,107 @@ public class PortfolioServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("수동 포트폴리오 생성 시 종목별 변동 기록을 한 번에 저장")
+    @Transactional
+    public void testCreateManualPortfolioRecords() throws Exception {
+        // given 유저 생성
+        User user = userRepository.save(new User().builder()
+                .email("suprlux09@ajou.ac.kr")
+                .password("password!")
+                .name("James")
+                .roleType(RoleType.ROLE_USER)
+                .createdDate(LocalDateTime.now())
+                .enabled(true).build());
+
+        // when 포트폴리오 생성
+        List<PortfolioDto.StockDetailDto> stocks = List.of(
+                PortfolioDto.StockDetailDto.builder().ticker("005930").quantity(10).price(1000).isBuy(true).build(),
+                PortfolioDto.StockDetailDto.builder().ticker("000660").quantity(5).price(50000).isBuy(true).build()
+        );
+
+        int pfId = portfolioService.createManualPortfolio(user, PortfolioDto.CreateManualRequestDto.builder()
+                .name("수동 포트폴리오")
+                .country("KOR")
+                .stocks(stocks).build());
+
+        // then 종목별 기록이 저장되었는지
+        List<PortfolioRecord> portfolioRecords = portfolioRecordRepository.findAllByPortfolioPfId(pfId);
+        assertEquals(2, portfolioRecords.size());
+        assertEquals(List.of("000660", "005930"), portfolioRecords.stream().map(record -> record.getTicker().getTicker()).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("여러 종목 매수/매도를 한 번에 반영")
+    @Transactional
+    public void testTradeStocks() throws Exception {
+        // given 현금만 있는 수동 포트폴리오
+        User user = userRepository.save(new User().builder()
+                .email("suprlux09@ajou.ac.kr")
+                .password("password!")
+                .name("James")
+                .roleType(RoleType.ROLE_USER)
+                .createdDate(LocalDateTime.now())
+                .enabled(true).build());
+        int pfId = portfolioService.createManualPortfolio(user, PortfolioDto.CreateManualRequestDto.builder()
+                .name("수동 포트폴리오")
+                .country("KOR")
+                .stocks(List.of()).build());
+        portfolioService.depositCash(pfId, 100000);
+
+        // when 005930을 사고 모두 판 뒤 000660 매수
+        portfolioService.tradeStocks(pfId, List.of(
+                PortfolioDto.StockDetailDto.builder().ticker("005930").quantity(10).price(1000).isBuy(true).build(),
+                PortfolioDto.StockDetailDto.builder().ticker("000660").quantity(1).price(50000).isBuy(true).build(),
+                PortfolioDto.StockDetailDto.builder().ticker("005930").quantity(10).price(2000).isBuy(false).build()
+        ));
+
+        // then 000660만 보유, 현금과 기록 반영
+        Portfolio portfolio = portfolioRepository.findById(pfId).get();
+        assertEquals(List.of("000660"), portfolio.getPortfolioTickers().stream().map(pt -> pt.getTicker().getTicker()).toList());
+        assertEquals(100000 - 10000 - 50000 + 20000, portfolio.getCurrentCash());
+        assertEquals(3, portfolioRecordRepository.findAllByPortfolioPfId(pfId).size());
+    }
+
+    @Test
+    @DisplayName("여러 종목 매수/매도 중 하나라도 불가능하면 아무것도 반영하지 않음")
+    @Transactional
+    public void testTradeStocksValidation() throws Exception {
+        // given 현금만 있는 수동 포트폴리오
+        User user = userRepository.save(new User().builder()
+                .email("suprlux09@ajou.ac.kr")
+                .password("password!")
+                .name("James")
+                .roleType(RoleType.ROLE_USER)
+                .createdDate(LocalDateTime.now())
+                .enabled(true).build());
+        int pfId = portfolioService.createManualPortfolio(user, PortfolioDto.CreateManualRequestDto.builder()
+                .name("수동 포트폴리오")
+                .country("KOR")
+                .stocks(List.of()).build());
+        portfolioService.depositCash(pfId, 100000);
+
+        // when 보유 수량보다 많이 매도
+        assertThrows(CannotSellStockException.class, () -> portfolioService.tradeStocks(pfId, List.of(
+                PortfolioDto.StockDetailDto.builder().ticker("005930").quantity(10).price(1000).isBuy(true).build(),
+                PortfolioDto.StockDetailDto.builder().ticker("005930").quantity(11).price(1000).isBuy(false).build()
+        )));
+        // when 매수/매도 구분이 없는 거래
+        assertThrows(InvalidTradeException.class, () -> portfolioService.tradeStocks(pfId, List.of(
+                PortfolioDto.StockDetailDto.builder().ticker("005930").quantity(10).price(1000).isBuy(true).build(),
+                PortfolioDto.StockDetailDto.builder().ticker("005930").quantity(5).price(1000).build()
+        )));
+        // when 거래 목록이 없거나 비어 있음
+        assertThrows(InvalidTradeException.class, () -> portfolioService.tradeStocks(pfId, null));
+        assertThrows(InvalidTradeException.class, () -> portfolioService.tradeStocks(pfId, List.of()));
+
+        // then 변동 없음
+        Portfolio portfolio = portfolioRepository.findById(pfId).get();
+        assertTrue(portfolio.getPortfolioTickers().isEmpty());
+        assertEquals(100000, portfolio.getCurrentCash());
+        assertTrue(portfolioRecordRepository.findAllByPortfolioPfId(pfId).isEmpty());
+    }
+
 //    @Test
 //    @DisplayName("매수 테스트")
 //    @Transactional
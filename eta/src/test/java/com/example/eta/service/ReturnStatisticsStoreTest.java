@@ -0,0 +1,126 @@
+package com.example.eta.service;
+
+import com.example.eta.repository.PriceRepository;
+import com.example.eta.util.MeanVarianceOptimizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class ReturnStatisticsStoreTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    @InjectMocks
+    private ReturnStatisticsStore returnStatisticsStore;
+
+    // (종목 코드, 날짜, 종가)
+    private final List<Object[]> prices = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(returnStatisticsStore, "lookbackDays", 252);
+        ReflectionTestUtils.setField(returnStatisticsStore, "rebuildInterval", 60);
+
+        when(priceRepository.findLatestDate()).thenAnswer(invocation -> prices.stream()
+                .map(row -> (LocalDateTime) row[1])
+                .max(Comparator.naturalOrder()));
+        when(priceRepository.countByDate(any())).thenAnswer(invocation -> prices.stream()
+                .filter(row -> row[1].equals(invocation.getArgument(0)))
+                .count());
+        when(priceRepository.findAllClosesAfter(any())).thenAnswer(invocation -> prices.stream()
+                .filter(row -> ((LocalDateTime) row[1]).isAfter(invocation.getArgument(0)))
+                .sorted(Comparator.comparing(row -> (LocalDateTime) row[1]))
+                .toList());
+        when(priceRepository.findCloseChecksum(any(), any())).thenAnswer(invocation -> {
+            LocalDateTime from = invocation.getArgument(0);
+            LocalDateTime to = invocation.getArgument(1);
+            List<Object[]> rows = prices.stream()
+                    .filter(row -> !((LocalDateTime) row[1]).isBefore(from) && !((LocalDateTime) row[1]).isAfter(to))
+                    .filter(row -> row[2] != null && (Double) row[2] > 0)
+                    .toList();
+            Object[] checksum = {(long) rows.size(), rows.isEmpty() ? null : rows.stream().mapToDouble(row -> (Double) row[2]).sum()};
+            return List.<Object[]>of(checksum);
+        });
+    }
+
+    @Test
+    @DisplayName("수익률 통계: 저장 중인 최신 날짜는 종가 수가 같아질 때까지 반영하지 않음")
+    public void testWaitForPartialLatestDay() {
+        for (int day = 0; day < 25; day++) {
+            addPrice("005930", day, 100 * Math.pow(1.01, day));
+            addPrice("000660", day, 50 * Math.pow(0.99, day));
+        }
+        // 25일째 종가는 한 종목만 저장됨
+        addPrice("005930", 25, 100 * Math.pow(1.01, 25));
+
+        returnStatisticsStore.refresh();
+        assertEquals(24, observations());
+
+        // 나머지 종목이 저장됨, 종가 수가 바뀌었으므로 아직 반영하지 않음
+        addPrice("000660", 25, 50 * Math.pow(0.99, 25));
+        returnStatisticsStore.refresh();
+        assertEquals(24, observations());
+
+        // 종가 수가 직전 확인 때와 같으므로 반영
+        returnStatisticsStore.refresh();
+        ReturnStatisticsStore.Statistics statistics = returnStatisticsStore.getStatistics(List.of("005930", "000660")).get();
+        assertAll(
+                () -> assertEquals(25, statistics.observations()),
+                () -> assertEquals(Math.log(1.01) * MeanVarianceOptimizer.TRADING_DAYS, statistics.annualReturns()[0], 1e-9),
+                () -> assertEquals(Math.log(0.99) * MeanVarianceOptimizer.TRADING_DAYS, statistics.annualReturns()[1], 1e-9)
+        );
+    }
+
+    @Test
+    @DisplayName("수익률 통계: 이미 읽은 기간의 종가가 다시 저장되면 기간 전체를 다시 읽음")
+    public void testReloadChangedHistory() {
+        // 13일째 액면분할, 수정 종가가 반영되기 전
+        for (int day = 0; day < 25; day++) {
+            addPrice("005930", day, 100.0);
+            addPrice("000660", day, day < 13 ? 100.0 : 50.0);
+        }
+        returnStatisticsStore.refresh();
+        returnStatisticsStore.refresh();
+        assertTrue(returnStatisticsStore.getStatistics(List.of("005930", "000660")).get().annualReturns()[1] < 0);
+
+        // 분할 전 종가가 수정 종가로 다시 저장됨
+        for (Object[] row : prices) {
+            if (row[0].equals("000660")) {
+                row[2] = 50.0;
+            }
+        }
+        returnStatisticsStore.refresh();
+
+        ReturnStatisticsStore.Statistics statistics = returnStatisticsStore.getStatistics(List.of("005930", "000660")).get();
+        assertEquals(24, statistics.observations());
+        assertEquals(0.0, statistics.annualReturns()[1], 1e-12);
+    }
+
+    private int observations() {
+        Optional<ReturnStatisticsStore.Statistics> statistics = returnStatisticsStore.getStatistics(List.of("005930", "000660"));
+        assertTrue(statistics.isPresent());
+        return statistics.get().observations();
+    }
+
+    private void addPrice(String ticker, int day, double close) {
+        prices.add(new Object[]{ticker, START.plusDays(day), close});
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.eta.service;
+
+import com.example.eta.enums.ValueFactor;
+import com.example.eta.repository.ValueLatestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SectorRankIndexTest {
+
+    @Mock
+    private ValueLatestRepository valueLatestRepository;
+
+    @InjectMocks
+    private SectorRankIndex sectorRankIndex;
+
+    private final LocalDateTime scoreDate = LocalDateTime.of(2024, 6, 3, 0, 0);
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(valueLatestRepository.findLatestScoreDate()).thenReturn(Optional.of(scoreDate));
+        when(valueLatestRepository.findAllFactorsWithTicker()).thenReturn(List.of(
+                new Object[]{"000001", "종목1", "KOSPI", "IT", 0.1f, 0.05f, null, 10f, 1.0f, null, null, 0.2f, null, null},
+                new Object[]{"000002", "종목2", "KOSPI", "IT", 0.3f, 0.05f, null, 20f, null, null, null, -0.1f, null, null},
+                new Object[]{"000003", "종목3", "KOSPI", "IT", 0.2f, 0.01f, null, null, 2.0f, null, null, 0.2f, null, null},
+                new Object[]{"000004", "종목4", "KOSPI", "금융", 0.1f, 0.02f, null, 5f, 0.5f, null, null, 0.0f, null, null}
+        ));
+    }
+
+    @Test
+    @DisplayName("업종 내 값이 큰 순서의 순위, 같은 값은 같은 순위, 값이 없으면 -99로 취급")
+    public void testRank() {
+        assertEquals(1, sectorRankIndex.getRank("IT", ValueFactor.ROE, 0.3f));
+        assertEquals(2, sectorRankIndex.getRank("IT", ValueFactor.ROE, 0.2f));
+        assertEquals(3, sectorRankIndex.getRank("IT", ValueFactor.ROE, 0.1f));
+        assertEquals(1, sectorRankIndex.getRank("IT", ValueFactor.ROA, 0.05f));
+        assertEquals(3, sectorRankIndex.getRank("IT", ValueFactor.ROA, 0.01f));
+        assertEquals(1, sectorRankIndex.getRank("IT", ValueFactor.TWELVE_MONTH_RET, 0.2f));
+        assertEquals(3, sectorRankIndex.getRank("IT", ValueFactor.PER, SectorRankIndex.orMissing(null)));
+        assertEquals(2, sectorRankIndex.getRank("IT", ValueFactor.PBR, 1.0f));
+        assertEquals(1, sectorRankIndex.getRank("금융", ValueFactor.ROE, 0.1f));
+        assertEquals(3, sectorRankIndex.getTotal("IT"));
+        assertEquals(1, sectorRankIndex.getTotal("금융"));
+        assertEquals(-1, sectorRankIndex.getRank("에너지", ValueFactor.ROE, 0.1f));
+        assertEquals(0, sectorRankIndex.getTotal("에너지"));
+    }
+
+    @Test
+    @DisplayName("value_latest의 최신 score_date가 바뀐 경우에만 인덱스를 다시 만듦")
+    public void testRefreshOnlyOnNewScoreDate() {
+        sectorRankIndex.getRank("IT", ValueFactor.ROE, 0.1f);
+        sectorRankIndex.refresh();
+        verify(valueLatestRepository, times(1)).findAllFactorsWithTicker();
+
+        LocalDateTime nextScoreDate = scoreDate.plusDays(7);
+        when(valueLatestRepository.findLatestScoreDate()).thenReturn(Optional.of(nextScoreDate));
+        when(valueLatestRepository.findAllFactorsWithTicker()).thenReturn(List.<Object[]>of(
+                new Object[]{"000005", "종목5", "KOSPI", "IT", 0.5f, 0.05f, null, 10f, 1.0f, null, null, 0.2f, null, null}
+        ));
+        sectorRankIndex.refresh();
+
+        assertEquals(2, sectorRankIndex.getRank("IT", ValueFactor.ROE, 0.3f));
+        assertEquals(1, sectorRankIndex.getTotal("IT"));
+    }
+}
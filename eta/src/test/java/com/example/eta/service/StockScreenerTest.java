@@ -0,0 +1,113 @@
+package com.example.eta.service;
+
+import com.example.eta.dto.TickerDto;
+import com.example.eta.enums.ValueFactor;
+import com.example.eta.repository.ValueLatestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class StockScreenerTest {
+
+    @Mock
+    private ValueLatestRepository valueLatestRepository;
+
+    @InjectMocks
+    private StockScreener stockScreener;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // 종목 코드, 종목명, 거래소, 업종명, ROE, ROA, GPA, PER, PBR, PCR, PSR, 12M_ret, K_ratio, score
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{"005930", "삼성전자", "KOSPI", "IT", 0.10f, 0.05f, 0.3f, 12f, 1.2f, 5f, 1.5f, 0.20f, 1.0f, 80f});
+        rows.add(new Object[]{"000660", "SK하이닉스", "KOSPI", "IT", 0.20f, 0.08f, 0.4f, null, 1.8f, 6f, 2.0f, 0.50f, 1.5f, 90f});
+        rows.add(new Object[]{"035720", "카카오", "KOSPI", "IT", -0.02f, -0.01f, 0.2f, null, 2.5f, 20f, 3.0f, -0.30f, -0.5f, 30f});
+        rows.add(new Object[]{"105560", "KB금융", "KOSPI", "금융", 0.09f, 0.01f, null, 5f, 0.4f, null, null, 0.40f, 0.8f, 70f});
+        rows.add(new Object[]{"247540", "에코프로비엠", "KOSDAQ", "화학", 0.05f, 0.02f, 0.1f, 80f, 9.0f, null, 4.0f, -0.20f, null, null});
+        // 비트맵이 여러 word에 걸치도록 추가
+        for (int i = 0; i < 130; i++) {
+            rows.add(new Object[]{String.format("9%05d", i), "기타" + i, "KOSDAQ", "기타", 0.01f, 0.01f, null, null, null, null, null, 0f, null, (float) i / 10});
+        }
+        when(valueLatestRepository.findLatestScoreDate()).thenReturn(Optional.of(LocalDateTime.of(2024, 6, 3, 0, 0)));
+        when(valueLatestRepository.findAllFactorsWithTicker()).thenReturn(rows);
+    }
+
+    @Test
+    @DisplayName("조건이 없으면 전체 종목을 종합 점수 순서로 limit개 반환")
+    public void testDefaultSort() {
+        TickerDto.ScreenResultDto result = stockScreener.screen(TickerDto.ScreenRequestDto.builder().limit(3).build());
+
+        assertEquals(135, result.getTotal());
+        assertEquals(List.of("000660", "005930", "105560"), tickers(result));
+        assertEquals(0.20f, result.getTickers().get(0).getFactors().get(ValueFactor.ROE));
+        assertNull(result.getTickers().get(0).getFactors().get(ValueFactor.PER));
+        assertEquals("SK하이닉스", result.getTickers().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("업종, 거래소, 팩터 범위 조건을 모두 만족하는 종목만 반환하고, 값이 없는 종목은 범위 조건을 만족하지 않음")
+    public void testFilters() {
+        TickerDto.ScreenResultDto result = stockScreener.screen(TickerDto.ScreenRequestDto.builder()
+                .sectors(List.of("IT", "금융"))
+                .exchanges(List.of("KOSPI"))
+                .ranges(List.of(
+                        TickerDto.FactorRangeDto.builder().factor(ValueFactor.ROE).min(0.0f).build(),
+                        TickerDto.FactorRangeDto.builder().factor(ValueFactor.PER).max(15f).build()))
+                .sortBy(ValueFactor.PER)
+                .ascending(true)
+                .build());
+
+        assertEquals(2, result.getTotal());
+        assertEquals(List.of("105560", "005930"), tickers(result));
+    }
+
+    @Test
+    @DisplayName("정렬 기준 값이 없는 종목은 마지막, 여러 word에 걸친 비트맵 처리")
+    public void testMissingSortValueAndLargeUniverse() {
+        TickerDto.ScreenResultDto result = stockScreener.screen(TickerDto.ScreenRequestDto.builder()
+                .exchanges(List.of("KOSDAQ"))
+                .limit(200)
+                .build());
+
+        assertEquals(131, result.getTotal());
+        assertEquals(131, result.getTickers().size());
+        assertEquals("900129", result.getTickers().get(0).getTicker());
+        assertEquals("247540", result.getTickers().get(130).getTicker());
+
+        TickerDto.ScreenResultDto ranged = stockScreener.screen(TickerDto.ScreenRequestDto.builder()
+                .ranges(List.of(TickerDto.FactorRangeDto.builder().factor(ValueFactor.SCORE).min(6.4f).max(12.75f).build()))
+                .sortBy(ValueFactor.SCORE)
+                .ascending(true)
+                .limit(1)
+                .build());
+        assertEquals(64, ranged.getTotal());
+        assertEquals("900064", ranged.getTickers().get(0).getTicker());
+    }
+
+    @Test
+    @DisplayName("모르는 업종은 아무 종목도 만족하지 않고, 요청마다 DB를 조회하지 않음")
+    public void testUnknownSectorAndNoQueryPerRequest() {
+        TickerDto.ScreenResultDto result = stockScreener.screen(TickerDto.ScreenRequestDto.builder().sectors(List.of("에너지")).build());
+        stockScreener.screen(TickerDto.ScreenRequestDto.builder().build());
+
+        assertEquals(0, result.getTotal());
+        assertTrue(result.getTickers().isEmpty());
+        verify(valueLatestRepository, times(1)).findAllFactorsWithTicker();
+    }
+
+    private List<String> tickers(TickerDto.ScreenResultDto result) {
+        return result.getTickers().stream().map(TickerDto.ScreenedTicker::getTicker).toList();
+    }
+}
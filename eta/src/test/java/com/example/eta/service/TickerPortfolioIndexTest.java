@@ -0,0 +1,63 @@
+package com.example.eta.service;
+
+import com.example.eta.repository.PortfolioTickerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class TickerPortfolioIndexTest {
+
+    @Mock
+    private PortfolioTickerRepository portfolioTickerRepository;
+
+    @InjectMocks
+    private TickerPortfolioIndex tickerPortfolioIndex;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(portfolioTickerRepository.findAllTickerAndPfIds()).thenReturn(List.of(
+                new Object[]{"005930", 1},
+                new Object[]{"005930", 2},
+                new Object[]{"001000", 2}));
+        tickerPortfolioIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("종목으로 보유 포트폴리오 조회")
+    public void testFindPfIds() {
+        assertEquals(Set.of(1, 2), tickerPortfolioIndex.findPfIds(List.of("005930")));
+        assertEquals(Set.of(2), tickerPortfolioIndex.findPfIds(List.of("001000", "000660")));
+        assertTrue(tickerPortfolioIndex.drainChangedPfIds().isEmpty());
+    }
+
+    @Test
+    @DisplayName("보유 종목 변경 시 색인 갱신 및 변경 포트폴리오 기록")
+    public void testAddAndRemove() {
+        tickerPortfolioIndex.add("000660", 3);
+        tickerPortfolioIndex.remove("005930", 1);
+        tickerPortfolioIndex.markChanged(2);
+
+        assertEquals(Set.of(3), tickerPortfolioIndex.findPfIds(List.of("000660")));
+        assertEquals(Set.of(2), tickerPortfolioIndex.findPfIds(List.of("005930")));
+        assertEquals(Set.of(1, 2, 3), tickerPortfolioIndex.drainChangedPfIds());
+        assertTrue(tickerPortfolioIndex.drainChangedPfIds().isEmpty());
+    }
+
+    @Test
+    @DisplayName("포트폴리오 삭제 시 모든 종목에서 제거")
+    public void testRemovePortfolio() {
+        tickerPortfolioIndex.removePortfolio(2);
+
+        assertEquals(Set.of(1), tickerPortfolioIndex.findPfIds(List.of("005930", "001000")));
+    }
+}
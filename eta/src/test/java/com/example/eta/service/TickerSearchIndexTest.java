@@ -0,0 +1,96 @@
+package com.example.eta.service;
+
+import com.example.eta.dto.TickerDto;
+import com.example.eta.repository.TickerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.eta.util.Utility.decompose;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TickerSearchIndexTest {
+
+    @Mock
+    private TickerRepository tickerRepository;
+
+    @InjectMocks
+    private TickerSearchIndex tickerSearchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(row("005930", "삼성전자", 4.3e14f));
+        rows.add(row("006400", "삼성SDI", 2.5e13f));
+        rows.add(row("028260", "삼성물산", 2.0e13f));
+        rows.add(row("000660", "SK하이닉스", 1.3e14f));
+        rows.add(row("032830", "삼성생명", null));
+        rows.add(row("055550", "신한지주", 2.6e13f));
+        rows.add(row("207940", "삼성바이오로직스", 5.5e13f));
+        rows.add(row("009150", "대한전선", 1.9e12f));
+        rows.add(row("015760", "한국전력", 1.5e13f));
+        when(tickerRepository.findLatestUpdatedDate()).thenReturn(Optional.of(LocalDateTime.of(2024, 6, 3, 0, 0)));
+        when(tickerRepository.findAllSearchEntries()).thenReturn(rows);
+    }
+
+    @Test
+    @DisplayName("종목명을 포함하는 종목을 시가총액 순서로 반환하고, 시가총액이 없는 종목은 마지막")
+    public void testSearchByName() {
+        assertEquals(List.of("005930", "207940", "006400", "028260", "032830"), tickers(tickerSearchIndex.search(decompose("삼성"), 20)));
+        assertEquals(List.of("005930", "207940"), tickers(tickerSearchIndex.search(decompose("삼성"), 2)));
+        assertEquals(List.of("005930"), tickers(tickerSearchIndex.search(decompose("성전"), 20)));
+        assertEquals(List.of("000660"), tickers(tickerSearchIndex.search(decompose("sk하"), 20)));
+        assertTrue(tickerSearchIndex.search(decompose("현대"), 20).isEmpty());
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자(자모 일부)로도 검색")
+    public void testSearchPartialSyllable() {
+        assertEquals(List.of("009150"), tickers(tickerSearchIndex.search(decompose("대한저"), 20)));
+        assertEquals(List.of("055550"), tickers(tickerSearchIndex.search(decompose("신ㅎ"), 20)));
+    }
+
+    @Test
+    @DisplayName("종목명 또는 종목 코드가 검색어로 시작하는 종목을 먼저 반환")
+    public void testPrefixBoost() {
+        // 한국전력은 "한"으로 시작하므로 시가총액이 더 큰 신한지주보다 먼저 옴
+        assertEquals(List.of("015760", "055550", "009150"), tickers(tickerSearchIndex.search(decompose("한"), 20)));
+        assertEquals(List.of("005930", "015760", "009150"), tickers(tickerSearchIndex.search(decompose("전"), 20)));
+        assertEquals(List.of("005930", "000660", "006400", "009150"), tickers(tickerSearchIndex.search("00", 20)));
+    }
+
+    @Test
+    @DisplayName("초성으로 검색")
+    public void testSearchByChosung() {
+        assertEquals(List.of("005930"), tickers(tickerSearchIndex.search(decompose("ㅅㅅㅈㅈ"), 20)));
+        assertEquals(List.of("005930", "207940", "006400", "028260", "032830"), tickers(tickerSearchIndex.search(decompose("ㅅㅅ"), 20)));
+        assertEquals(List.of("009150"), tickers(tickerSearchIndex.search(decompose("ㄷㅎ"), 20)));
+    }
+
+    @Test
+    @DisplayName("요청마다 DB를 조회하지 않음")
+    public void testNoQueryPerRequest() {
+        tickerSearchIndex.search(decompose("삼성"), 20);
+        tickerSearchIndex.search(decompose("신한"), 20);
+
+        verify(tickerRepository, times(1)).findAllSearchEntries();
+    }
+
+    private Object[] row(String ticker, String name, Float marketCap) {
+        return new Object[]{ticker, name, "KOSPI", marketCap, decompose(name)};
+    }
+
+    private List<String> tickers(List<TickerDto.TickerInfo> result) {
+        return result.stream().map(TickerDto.TickerInfo::getTicker).toList();
+    }
+}
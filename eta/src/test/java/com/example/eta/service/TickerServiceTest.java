@@ -6,18 +6,18 @@ import static org.mockito.Mockito.when;
 import com.example.eta.dto.TickerDto;
 import com.example.eta.entity.Sector;
 import com.example.eta.entity.Ticker;
-import com.example.eta.entity.Value;
+import com.example.eta.entity.ValueLatest;
 import com.example.eta.repository.TickerRepository;
-import com.example.eta.repository.ValueRepository;
+import com.example.eta.repository.ValueLatestRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -29,11 +29,16 @@ public class TickerServiceTest {
     private TickerRepository tickerRepository;
 
     @Mock
-    private ValueRepository valueRepository;
+    private ValueLatestRepository valueLatestRepository;
 
-    @InjectMocks
     private TickerService tickerService;
 
+    @BeforeEach
+    void setUp() {
+        tickerService = new TickerService(tickerRepository, valueLatestRepository, new SectorRankIndex(valueLatestRepository),
+                new TickerSearchIndex(tickerRepository));
+    }
+
     @Test
     void testGetTickerInfo_Success() {
         String tickerId = "005930";
@@ -44,22 +49,22 @@ public class TickerServiceTest {
         sector.setSectorName("IT");
         tickerEntity.setSector(sector);
 
-        Value valueEntity = new Value();
+        ValueLatest valueEntity = new ValueLatest();
         valueEntity.setRoe(10.5f);
         valueEntity.setRoa(5.2f);
         valueEntity.setPer(15.3f);
         valueEntity.setPbr(2.3f);
         valueEntity.setTwelveMonthRet(8.7f);
 
-        List<Value> allValues = new ArrayList<>();
-        allValues.add(valueEntity);
-
-        Value valueWithNullFields = new Value();
-        allValues.add(valueWithNullFields);
+        LocalDateTime scoreDate = LocalDateTime.of(2024, 6, 3, 0, 0);
+        List<Object[]> allValues = new ArrayList<>();
+        allValues.add(new Object[]{tickerId, "Sample Name", "KOSPI", "IT", 10.5f, 5.2f, null, 15.3f, 2.3f, null, null, 8.7f, null, null});
+        allValues.add(new Object[]{"000660", "Other Name", "KOSPI", "IT", null, null, null, null, null, null, null, null, null, null});
 
         when(tickerRepository.findById(tickerId)).thenReturn(Optional.of(tickerEntity));
-        when(valueRepository.findFirstByTickerTickerOrderByScoreDateDesc(tickerId)).thenReturn(Optional.of(valueEntity));
-        when(valueRepository.findBySectorName("IT")).thenReturn(allValues);
+        when(valueLatestRepository.findById(tickerId)).thenReturn(Optional.of(valueEntity));
+        when(valueLatestRepository.findLatestScoreDate()).thenReturn(Optional.of(scoreDate));
+        when(valueLatestRepository.findAllFactorsWithTicker()).thenReturn(allValues);
 
         TickerDto.TickerDetailDto result = tickerService.getTickerInfo(tickerId);
 
@@ -100,7 +105,7 @@ public class TickerServiceTest {
         tickerEntity.setTicker(tickerId);
 
         when(tickerRepository.findById(tickerId)).thenReturn(Optional.of(tickerEntity));
-        when(valueRepository.findFirstByTickerTickerOrderByScoreDateDesc(tickerId)).thenReturn(Optional.empty());
+        when(valueLatestRepository.findById(tickerId)).thenReturn(Optional.empty());
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
             tickerService.getTickerInfo(tickerId);
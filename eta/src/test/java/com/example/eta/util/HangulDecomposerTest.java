@@ -0,0 +1,68 @@
+package com.example.eta.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HangulDecomposerTest {
+
+    @Test
+    @DisplayName("모든 한글 음절을 초성, 중성, 종성으로 분해")
+    public void testAllSyllables() {
+        String[] cho = {"ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+        String[] jung = {"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅘ", "ㅙ", "ㅚ", "ㅛ", "ㅜ", "ㅝ", "ㅞ", "ㅟ", "ㅠ", "ㅡ", "ㅢ", "ㅣ"};
+        String[] jong = {"", "ㄱ", "ㄲ", "ㄳ", "ㄴ", "ㄵ", "ㄶ", "ㄷ", "ㄹ", "ㄺ", "ㄻ", "ㄼ", "ㄽ", "ㄾ", "ㄿ", "ㅀ", "ㅁ", "ㅂ", "ㅄ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+        for (char c = 0xAC00; c <= 0xD7A3; c++) {
+            int index = c - 0xAC00;
+            String expected = cho[index / 28 / 21] + jung[index / 28 % 21] + jong[index % 28];
+            assertEquals(expected, HangulDecomposer.decompose(String.valueOf(c)), "syllable " + c);
+            assertEquals(cho[index / 28 / 21], HangulDecomposer.extractChosung(String.valueOf(c)), "syllable " + c);
+        }
+    }
+
+    @Test
+    @DisplayName("한글 음절이 아닌 문자는 그대로 두고, 긴 문자열도 분해")
+    public void testMixedAndLongText() {
+        assertEquals("ㅅㅏㅁㅅㅓㅇㅈㅓㄴㅈㅏ", HangulDecomposer.decompose("삼성전자"));
+        assertEquals("SKㅎㅏㅇㅣㄴㅣㄱㅅㅡ", HangulDecomposer.decompose("SK하이닉스"));
+        assertEquals("KODEX 200ㅅㅓㄴㅁㅜㄹ", HangulDecomposer.decompose("KODEX 200선물"));
+        assertEquals("ㅅㅅㅈ", HangulDecomposer.decompose("ㅅㅅㅈ"));
+        assertEquals("", HangulDecomposer.decompose(""));
+
+        String longText = "삼성전자".repeat(2000);
+        assertEquals("ㅅㅏㅁㅅㅓㅇㅈㅓㄴㅈㅏ".repeat(2000), HangulDecomposer.decompose(longText));
+        assertEquals("ㅅㅏㅁ", HangulDecomposer.decompose("삼"));
+    }
+
+    @Test
+    @DisplayName("여러 문자열을 한 번에 분해한 결과가 하나씩 분해한 결과와 같음")
+    public void testDecomposeAll() {
+        List<String> names = new ArrayList<>(List.of("삼성전자", "", "LG에너지솔루션", "카카오뱅크", "NAVER"));
+        names.add("한".repeat(100));
+
+        String[] decomposed = HangulDecomposer.decomposeAll(names);
+
+        assertEquals(names.size(), decomposed.length);
+        for (int i = 0; i < names.size(); i++) {
+            assertEquals(HangulDecomposer.decompose(names.get(i)), decomposed[i]);
+        }
+        assertEquals(0, HangulDecomposer.decomposeAll(List.of()).length);
+    }
+
+    @Test
+    @DisplayName("주어진 char[]의 offset부터 분해 결과를 씀")
+    public void testDecomposeIntoBuffer() {
+        char[] out = new char[16];
+        out[0] = '#';
+
+        int written = HangulDecomposer.decompose("값a", out, 1);
+
+        assertEquals(4, written);
+        assertEquals("#ㄱㅏㅄa", new String(out, 0, 1 + written));
+    }
+}
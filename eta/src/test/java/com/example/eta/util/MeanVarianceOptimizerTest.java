@@ -0,0 +1,100 @@
+package com.example.eta.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MeanVarianceOptimizerTest {
+
+    @Test
+    @DisplayName("로그 수익률, 연간 수익률, 연간 공분산 계산")
+    public void testReturnsAndCovariance() {
+        double[][] closes = {{100, 200}, {110, 190}, {99, 209}, {108.9, 198.55}};
+
+        double[][] returns = MeanVarianceOptimizer.logReturns(closes);
+        double[] annualReturns = MeanVarianceOptimizer.annualReturns(returns, 2);
+        double[][] cov = MeanVarianceOptimizer.annualCovariance(returns, 2);
+
+        assertEquals(3, returns.length);
+        assertEquals(Math.log(1.1), returns[0][0], 1e-12);
+        assertEquals(Math.log(0.95), returns[0][1], 1e-12);
+        assertEquals(Math.log(108.9 / 100) / 3 * 252, annualReturns[0], 1e-9);
+
+        double mean = (returns[0][0] + returns[1][0] + returns[2][0]) / 3;
+        double variance = 0.0;
+        for (double[] row : returns) {
+            variance += (row[0] - mean) * (row[0] - mean);
+        }
+        assertEquals(variance / 2 * 252, cov[0][0], 1e-9);
+        assertEquals(cov[0][1], cov[1][0]);
+        assertTrue(cov[0][1] < 0);
+    }
+
+    @Test
+    @DisplayName("최소 분산 비중: 상관관계가 없으면 분산의 역수에 비례")
+    public void testMinimumVarianceDiagonal() {
+        double[][] cov = {{0.04, 0, 0}, {0, 0.09, 0}, {0, 0, 0.16}};
+
+        double[] weights = MeanVarianceOptimizer.minimumVariance(cov, 0.05, 1.0);
+
+        double inverseSum = 1 / 0.04 + 1 / 0.09 + 1 / 0.16;
+        assertEquals(1 / 0.04 / inverseSum, weights[0], 1e-6);
+        assertEquals(1 / 0.09 / inverseSum, weights[1], 1e-6);
+        assertEquals(1 / 0.16 / inverseSum, weights[2], 1e-6);
+    }
+
+    @Test
+    @DisplayName("최소 분산 비중: 최소 비중 제약")
+    public void testMinimumVarianceLowerBound() {
+        double[][] cov = {{0.01, 0, 0, 0}, {0, 1, 0, 0}, {0, 0, 1, 0}, {0, 0, 0, 1}};
+
+        double[] weights = MeanVarianceOptimizer.minimumVariance(cov, 0.05, 1.0);
+
+        assertEquals(0.85, weights[0], 1e-6);
+        for (int i = 1; i < 4; i++) {
+            assertEquals(0.05, weights[i], 1e-6);
+        }
+    }
+
+    @Test
+    @DisplayName("최소 분산 비중: 제약을 지키고 제약에 걸리지 않은 종목의 한계 위험이 같음")
+    public void testMinimumVarianceOptimality() {
+        Random random = new Random(20240601L);
+
+        for (int trial = 0; trial < 100; trial++) {
+            int n = 2 + random.nextInt(12);
+            double[][] returns = new double[120][n];
+            for (double[] row : returns) {
+                double market = random.nextGaussian() * 0.01;
+                for (int i = 0; i < n; i++) {
+                    row[i] = market * (0.5 + i * 0.1) + random.nextGaussian() * 0.01 * (1 + i % 3);
+                }
+            }
+            double[][] cov = MeanVarianceOptimizer.annualCovariance(returns, n);
+
+            double[] weights = MeanVarianceOptimizer.minimumVariance(cov, 0.05, 1.0);
+
+            double sum = 0.0;
+            double marginal = Double.NaN;
+            for (int i = 0; i < n; i++) {
+                sum += weights[i];
+                assertTrue(weights[i] >= 0.05 - 1e-9 && weights[i] <= 1.0 + 1e-9, "trial " + trial);
+                if (weights[i] > 0.05 + 1e-6) {
+                    double risk = 0.0;
+                    for (int j = 0; j < n; j++) {
+                        risk += cov[i][j] * weights[j];
+                    }
+                    if (Double.isNaN(marginal)) {
+                        marginal = risk;
+                    } else {
+                        assertEquals(marginal, risk, Math.abs(marginal) * 1e-3, "trial " + trial);
+                    }
+                }
+            }
+            assertEquals(1.0, sum, 1e-9, "trial " + trial);
+        }
+    }
+}
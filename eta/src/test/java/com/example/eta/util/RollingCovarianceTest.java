@@ -0,0 +1,69 @@
+package com.example.eta.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RollingCovarianceTest {
+
+    @Test
+    @DisplayName("관측값을 더하고 빼며 갱신한 공분산이 구간 전체로 다시 계산한 값과 같음")
+    public void testRollingWindowMatchesBatch() {
+        Random random = new Random(20240601L);
+        int n = 7;
+        int window = 30;
+        double[][] returns = new double[200][n];
+        boolean[] observed = new boolean[n];
+        Arrays.fill(observed, true);
+        for (double[] row : returns) {
+            double market = random.nextGaussian() * 0.01;
+            for (int i = 0; i < n; i++) {
+                row[i] = market * (0.5 + i * 0.2) + random.nextGaussian() * 0.02;
+            }
+        }
+
+        RollingCovariance rolling = new RollingCovariance(n);
+        for (int t = 0; t < returns.length; t++) {
+            rolling.add(returns[t], observed);
+            if (t >= window) {
+                rolling.remove(returns[t - window], observed);
+            }
+
+            if (t >= window) {
+                double[][] batch = MeanVarianceOptimizer.annualCovariance(Arrays.copyOfRange(returns, t - window + 1, t + 1), n);
+                double[] batchReturns = MeanVarianceOptimizer.annualReturns(Arrays.copyOfRange(returns, t - window + 1, t + 1), n);
+                assertEquals(window, rolling.getCount());
+                for (int i = 0; i < n; i++) {
+                    assertEquals(batchReturns[i], rolling.getMean(i) * MeanVarianceOptimizer.TRADING_DAYS, 1e-9, "day " + t);
+                    for (int j = 0; j < n; j++) {
+                        assertEquals(batch[i][j], rolling.getCovariance(i, j) * MeanVarianceOptimizer.TRADING_DAYS, 1e-9, "day " + t);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("종목 일부의 공분산 행렬을 요청한 순서대로 반환")
+    public void testSubMatrix() {
+        RollingCovariance rolling = new RollingCovariance(3);
+        boolean[] observed = {true, true, false};
+        rolling.add(new double[]{0.01, 0.02, 0.0}, observed);
+        rolling.add(new double[]{0.03, -0.02, 0.0}, observed);
+        rolling.add(new double[]{-0.01, 0.00, 0.0}, observed);
+
+        double[][] cov = rolling.getCovariance(new int[]{1, 0});
+
+        assertEquals(rolling.getCovariance(1, 1), cov[0][0]);
+        assertEquals(rolling.getCovariance(0, 1), cov[0][1]);
+        assertEquals(rolling.getCovariance(1, 0), cov[1][0]);
+        assertEquals(rolling.getCovariance(0, 0), cov[1][1]);
+        assertEquals(0.0004, rolling.getCovariance(0, 0), 1e-12);
+        assertEquals(3, rolling.getObservations(0));
+        assertEquals(0, rolling.getObservations(2));
+    }
+}
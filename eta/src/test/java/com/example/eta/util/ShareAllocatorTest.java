@@ -0,0 +1,78 @@
+package com.example.eta.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShareAllocatorTest {
+
+    @Test
+    @DisplayName("정수 주식 수 배분: 투자 금액 이하, 목표 수량의 내림값 또는 내림값 + 1")
+    public void testAllocateWithinCashAndBounds() {
+        Random random = new Random(20240601L);
+
+        for (int trial = 0; trial < 10000; trial++) {
+            int tickerNum = 1 + random.nextInt(25);
+            float[] weights = new float[tickerNum];
+            float[] prices = new float[tickerNum];
+            float cash = 1_000_000f + random.nextFloat() * 500_000_000f;
+
+            float weightSum = 0.0f;
+            for (int i = 0; i < tickerNum; i++) {
+                prices[i] = 100f + random.nextInt(1_000_000);
+                weights[i] = 0.01f + random.nextFloat();
+                weightSum += weights[i];
+            }
+            for (int i = 0; i < tickerNum; i++) {
+                weights[i] /= weightSum;
+            }
+
+            int[] shares = ShareAllocator.allocate(weights, prices, cash);
+
+            double spent = 0.0;
+            for (int i = 0; i < tickerNum; i++) {
+                int floor = (int) Math.floor((double) cash * weights[i] / prices[i]);
+                assertTrue(shares[i] == floor || shares[i] == floor + 1, "trial " + trial);
+                spent += (double) shares[i] * prices[i];
+            }
+            assertTrue(spent <= cash, "trial " + trial);
+
+            // 한 주를 더 받지 못한 종목은 남은 현금으로 살 수 없는 종목이어야 함
+            double residualCash = cash - spent;
+            for (int i = 0; i < tickerNum; i++) {
+                double targetNum = (double) cash * weights[i] / prices[i];
+                if (shares[i] < targetNum) {
+                    assertTrue(prices[i] > residualCash, "trial " + trial);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("정수 주식 수 배분: 소수 부분이 큰 종목부터 남은 현금 배분")
+    public void testAllocateLargestRemainderFirst() {
+        // 목표 수량: 2.5주, 1.9주, 3.2주 -> 내림 후 잔여 현금 3,000원
+        float[] weights = {0.25f, 0.38f, 0.32f};
+        float[] prices = {1000f, 2000f, 1000f};
+
+        int[] shares = ShareAllocator.allocate(weights, prices, 10000f);
+
+        assertArrayEquals(new int[]{3, 2, 3}, shares);
+    }
+
+    @Test
+    @DisplayName("정수 주식 수 배분: 같은 입력에는 항상 같은 결과")
+    public void testAllocateDeterministic() {
+        float[] weights = {0.2f, 0.2f, 0.2f, 0.2f};
+        float[] prices = {3000f, 3000f, 3000f, 3000f};
+
+        int[] first = ShareAllocator.allocate(weights, prices, 10000f);
+        int[] second = ShareAllocator.allocate(weights, prices, 10000f);
+
+        assertArrayEquals(first, second);
+        assertArrayEquals(new int[]{1, 1, 1, 0}, first);
+    }
+}
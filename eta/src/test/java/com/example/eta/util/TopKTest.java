@@ -0,0 +1,38 @@
+package com.example.eta.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TopKTest {
+
+    @Test
+    @DisplayName("키가 큰 상위 k개를 순서대로 반환하고, 키가 같으면 id가 작은 쪽이 앞")
+    public void testMatchesFullSort() {
+        Random random = new Random(20240601L);
+        float[] keys = new float[1000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(200) / 10f;
+        }
+
+        for (int k : new int[]{0, 1, 7, 50, 1000, 2000}) {
+            TopK topK = new TopK(k);
+            for (int i = 0; i < keys.length; i++) {
+                topK.offer(i, keys[i]);
+            }
+
+            int[] expected = IntStream.range(0, keys.length).boxed()
+                    .sorted(Comparator.<Integer>comparingDouble(i -> -keys[i]).thenComparingInt(i -> i))
+                    .limit(k)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            assertArrayEquals(expected, topK.drain(), "k = " + k);
+            assertEquals(0, topK.size());
+        }
+    }
+}